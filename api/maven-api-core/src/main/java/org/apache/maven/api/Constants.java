@@ -407,6 +407,18 @@ public final class Constants {
     @Config(defaultValue = "false")
     public static final String MAVEN_REPO_LOCAL_RECORD_REVERSE_TREE = "maven.repo.local.recordReverseTree";
 
+    /**
+     * User property for publishing the artifacts of the reactor projects into the project local repository
+     * (<code>target/project-local-repo</code>) using hard links instead of copies. Copies are still used
+     * when the file system does not support hard links. As the link and the build output share their content,
+     * a plugin rewriting an artifact in place, such as a <code>target/*.jar</code> updated by a later build,
+     * also changes the file in the project local repository.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_REPO_PROJECT_LOCAL_HARD_LINKS = "maven.repo.projectLocal.hardLinks";
+
     /**
      * User property for selecting dependency manager behaviour regarding transitive dependencies and dependency
      * management entries in their POMs. Maven 3 targeted full backward compatibility with Maven2, hence it ignored
@@ -430,6 +442,24 @@ public final class Constants {
     @Config(defaultValue = "default")
     public static final String MAVEN_RESOLVER_TRANSPORT = "maven.resolver.transport";
 
+    /**
+     * Maximum size in bytes of the streams uploaded through the <code>Transport</code> service that are buffered in
+     * memory. Larger streams are spooled to a temporary file before being uploaded.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "1048576")
+    public static final String MAVEN_TRANSPORT_MEMORY_THRESHOLD = "maven.transport.memoryThreshold";
+
+    /**
+     * User property for sharing structurally identical mojo configurations between executions
+     * and projects of the session, reducing the memory retained by large reactors.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_PLUGIN_CONFIGURATION_INTERN = "maven.plugin.configuration.intern";
+
     /**
      * Plugin validation level.
      *
@@ -438,6 +468,28 @@ public final class Constants {
     @Config(defaultValue = "inline")
     public static final String MAVEN_PLUGIN_VALIDATION = "maven.plugin.validation";
 
+    /**
+     * User property for the maximum total size in bytes of the plugin artifacts whose class realms are retained by
+     * the plugin realm cache. When the limit is exceeded, the least recently used realms that are not used by the
+     * current session are disposed, which bounds the memory of a resident Maven reusing realms across sessions.
+     * A value of zero or less means the cache is unbounded. When set, the artifacts of a retained realm are also
+     * checked once per session, and the realm is recreated if they changed.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Long", defaultValue = "0")
+    public static final String MAVEN_PLUGIN_REALM_CACHE_MAX_SIZE = "maven.plugin.realmCache.maxSize";
+
+    /**
+     * User property for enabling the persistent index of the plugin descriptors, so that the plugin JARs
+     * do not need to be opened again in each build. The descriptors are stored below
+     * <code>${maven.repo.local}/.cache/plugins</code> and reused as long as the JARs are unchanged.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_PLUGIN_DESCRIPTOR_INDEX = "maven.plugin.descriptorIndex";
+
     /**
      * Plugin validation exclusions.
      *
@@ -454,6 +506,66 @@ public final class Constants {
     @Config(type = "java.lang.Integer", defaultValue = "cores/2 + 1")
     public static final String MAVEN_MODEL_BUILDER_PARALLELISM = "maven.modelBuilder.parallelism";
 
+    /**
+     * User property for loading models using virtual threads. Loading models is mostly blocking I/O
+     * (reading POMs, resolving parents and imports), so when enabled, each task runs on its own virtual thread,
+     * while the CPU-bound interpolation and validation are bounded by <code>maven.modelBuilder.parallelism</code>.
+     * Requires Java 21 or later, platform threads are used otherwise.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_MODEL_BUILDER_VIRTUAL_THREADS = "maven.modelBuilder.virtualThreads";
+
+    /**
+     * User property for enabling the persistent cache of the models read from POMs outside of the build,
+     * such as the POMs of dependencies and plugins in the local repository. The parsed models are stored
+     * below <code>${maven.repo.local}/.cache/models</code> and reused as long as the POMs are unchanged.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_MODEL_BUILDER_PERSISTENT_CACHE = "maven.modelBuilder.persistentCache";
+
+    /**
+     * User property for enabling critical path scheduling in the concurrent builder.
+     * When enabled, the mojo execution timings are recorded as with <code>maven.timings</code>
+     * and used in subsequent builds to start the steps with the longest downstream path first.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_BUILDER_CRITICAL_PATH = "maven.builder.criticalPath";
+
+    /**
+     * User property for buffering the output of each project of the build and writing it at once when the project
+     * finishes, so that the output of projects built concurrently is not interleaved. While projects are being built,
+     * a progress line listing the projects in progress is written after the output of each finished project.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_BUILDER_BUFFERED_OUTPUT = "maven.builder.bufferedOutput";
+
+    /**
+     * User property for the maximum number of characters of the output of a project that are buffered in memory
+     * when <code>maven.builder.bufferedOutput</code> is enabled. Additional output is spooled to a temporary file.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "1048576")
+    public static final String MAVEN_BUILDER_BUFFERED_OUTPUT_MEMORY = "maven.builder.bufferedOutput.memory";
+
+    /**
+     * User property for recording the wall time of mojo executions across builds.
+     * When enabled, the durations are persisted in <code>.mvn/timings.properties</code> below the root directory
+     * and made available through the <code>org.apache.maven.api.services.MojoExecutionTimings</code> service.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_TIMINGS = "maven.timings";
+
     /**
      * User property for enabling/disabling the consumer POM feature.
      *
@@ -462,6 +574,16 @@ public final class Constants {
     @Config(type = "java.lang.Boolean", defaultValue = "true")
     public static final String MAVEN_CONSUMER_POM = "maven.consumer.pom";
 
+    /**
+     * User property for the maximum number of persistent results kept by the request cache.
+     * When the limit is reached, the least recently used results are evicted.
+     * A value of zero or less means the cache is unbounded.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "0")
+    public static final String MAVEN_CACHE_PERSISTENT_MAX_SIZE = "maven.cache.persistent.maxSize";
+
     /**
      * User property for disabling version resolver cache.
      *
@@ -603,6 +725,16 @@ public final class Constants {
     @Config(type = "java.lang.Boolean", defaultValue = "false")
     public static final String MAVEN_LOGGER_CACHE_OUTPUT_STREAM = MAVEN_LOGGER_PREFIX + "cacheOutputStream";
 
+    /**
+     * Set to true to write log output from a background thread. Logging threads then only queue the formatted
+     * messages, which are written in batches, so that they do not contend on the output stream. Pending messages
+     * are written when the build ends or the JVM exits. Defaults to false.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_LOGGER_ASYNC = MAVEN_LOGGER_PREFIX + "async";
+
     /**
      * maven.logger.log.a.b.c - Logging detail level for a SimpleLogger instance named "a.b.c". Right-side value
      * must be one of "trace", "debug", "info", "warn", "error" or "off". When a logger named "a.b.c" is initialized,
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.api.cache;
+
+import java.time.Duration;
+
+import org.apache.maven.api.annotations.Experimental;
+
+/**
+ * A snapshot of the statistics of a {@link RequestCache} for a given request type.
+ *
+ * @param hits the number of requests answered with a cached result
+ * @param misses the number of requests which had to be executed
+ * @param evictions the number of cached results evicted to bound the cache
+ * @param loadTime the total time spent executing the requests
+ * @since 4.0.0
+ * @see RequestCacheFactory#getStatistics()
+ */
+@Experimental
+public record CacheStatistics(long hits, long misses, long evictions, Duration loadTime) {
+
+    /**
+     * Returns the ratio of requests answered with a cached result.
+     *
+     * @return the hit rate between 0 and 1, or 0 if no request has been made
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests > 0 ? (double) hits / requests : 0;
+    }
+}
@@ -19,6 +19,9 @@
 package org.apache.maven.api.cache;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.apache.maven.api.annotations.Experimental;
@@ -77,4 +80,24 @@ public interface RequestCache {
      */
     <REQ extends Request<?>, REP extends Result<REQ>> List<REP> requests(
             List<REQ> req, Function<List<REQ>, List<REP>> supplier);
+
+    /**
+     * Asynchronously executes and optionally caches a batch of requests using the provided supplier function.
+     * This method behaves like {@link #requests(List, Function)}, but the non-cached requests are executed
+     * using the given executor and the results are delivered through the returned completion stage.
+     * <p>
+     * If any request in the batch fails, the returned stage completes exceptionally with
+     * a {@link BatchRequestException}.
+     *
+     * @param <REQ> The request type
+     * @param <REP> The response type
+     * @param req List of requests to process
+     * @param supplier Function to execute the batch of requests
+     * @param executor The executor used to execute the batch
+     * @return A completion stage of the results corresponding to the input requests
+     */
+    default <REQ extends Request<?>, REP extends Result<REQ>> CompletionStage<List<REP>> requestsAsync(
+            List<REQ> req, Function<List<REQ>, List<REP>> supplier, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> requests(req, supplier), executor);
+    }
 }
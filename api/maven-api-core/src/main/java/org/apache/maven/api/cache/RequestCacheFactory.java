@@ -18,6 +18,8 @@
  */
 package org.apache.maven.api.cache;
 
+import java.util.Map;
+
 import org.apache.maven.api.annotations.Experimental;
 
 /**
@@ -39,4 +41,14 @@ public interface RequestCacheFactory {
      * @return A new RequestCache instance
      */
     RequestCache createCache();
+
+    /**
+     * Returns a snapshot of the statistics of the caches created by this factory,
+     * keyed by request type.
+     *
+     * @return the statistics, empty if the implementation does not collect them
+     */
+    default Map<Class<?>, CacheStatistics> getStatistics() {
+        return Map.of();
+    }
 }
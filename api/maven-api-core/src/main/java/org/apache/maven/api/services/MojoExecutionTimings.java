@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.api.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.maven.api.MojoExecution;
+import org.apache.maven.api.Project;
+import org.apache.maven.api.Service;
+import org.apache.maven.api.annotations.Experimental;
+import org.apache.maven.api.annotations.Nonnull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Service giving access to the wall time of mojo executions recorded across builds.
+ * <p>
+ * The durations are kept per project, plugin, goal and execution id, and are persisted
+ * in the {@code .mvn/timings.properties} file below the root directory when the
+ * {@link org.apache.maven.api.Constants#MAVEN_TIMINGS} property is enabled.
+ * They can be used by schedulers to balance the build, by extensions to predict
+ * the build time or to detect performance regressions of plugins.
+ * <p>
+ * Recorded durations are smoothed: recording a new duration for an existing key
+ * averages it with the previously known value.
+ *
+ * @since 4.0.0
+ */
+@Experimental
+public interface MojoExecutionTimings extends Service {
+
+    /**
+     * The key identifying a mojo execution across builds.
+     *
+     * @param project the project id, in the {@code groupId:artifactId} form
+     * @param plugin the plugin id, in the {@code groupId:artifactId} form
+     * @param goal the goal
+     * @param executionId the execution id
+     */
+    record Key(@Nonnull String project, @Nonnull String plugin, @Nonnull String goal, @Nonnull String executionId) {
+        public Key {
+            requireNonNull(project, "project cannot be null");
+            requireNonNull(plugin, "plugin cannot be null");
+            requireNonNull(goal, "goal cannot be null");
+            requireNonNull(executionId, "executionId cannot be null");
+        }
+
+        /**
+         * Creates the key for the given mojo execution in the given project.
+         * Executions without id are recorded under the {@code default} execution id.
+         */
+        @Nonnull
+        public static Key of(@Nonnull Project project, @Nonnull MojoExecution execution) {
+            org.apache.maven.api.model.Plugin plugin = execution.getPlugin().getModel();
+            String executionId = execution.getExecutionId();
+            return new Key(
+                    project.getGroupId() + ":" + project.getArtifactId(),
+                    plugin.getGroupId() + ":" + plugin.getArtifactId(),
+                    execution.getGoal(),
+                    executionId != null ? executionId : "default");
+        }
+
+        @Override
+        public String toString() {
+            return project + "/" + plugin + ":" + goal + "@" + executionId;
+        }
+    }
+
+    /**
+     * Returns the recorded duration of the given mojo execution.
+     *
+     * @param key the key of the mojo execution
+     * @return the duration, or an empty optional if the execution has never been recorded
+     */
+    @Nonnull
+    Optional<Duration> getDuration(@Nonnull Key key);
+
+    /**
+     * Records the duration of the given mojo execution.
+     *
+     * @param key the key of the mojo execution
+     * @param duration the wall time of the execution
+     */
+    void record(@Nonnull Key key, @Nonnull Duration duration);
+
+    /**
+     * Returns an immutable snapshot of all recorded durations.
+     *
+     * @return the durations keyed by mojo execution
+     */
+    @Nonnull
+    Map<Key, Duration> getDurations();
+}
@@ -18,7 +18,11 @@
  */
 package org.apache.maven.api.services;
 
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -80,6 +84,18 @@ default Optional<String> getString(@Nonnull URI relativeSource) {
         return getString(relativeSource, StandardCharsets.UTF_8);
     }
 
+    /**
+     * GETs the source URI content as a stream. The source MUST BE relative from the {@link RemoteRepository#getUrl()}
+     * root. The returned stream must be closed by the caller.
+     *
+     * @return the stream if operation succeeded, empty if source does not exist.
+     * @throws RuntimeException If failed (and not due source not exists).
+     */
+    @Nonnull
+    default Optional<InputStream> getStream(@Nonnull URI relativeSource) {
+        return getBytes(relativeSource).map(ByteArrayInputStream::new);
+    }
+
     /**
      * PUTs the source file (must exist as file) to target URI. The target MUST BE relative from the
      * {@link RemoteRepository#getUrl()} root.
@@ -96,6 +112,20 @@ default Optional<String> getString(@Nonnull URI relativeSource) {
      */
     void putBytes(@Nonnull byte[] source, @Nonnull URI relativeTarget);
 
+    /**
+     * PUTs the content of the source stream to target URI. The stream is read until its end, but not closed.
+     * The target MUST BE relative from the {@link RemoteRepository#getUrl()} root.
+     *
+     * @throws RuntimeException If PUT fails for any reason.
+     */
+    default void putStream(@Nonnull InputStream source, @Nonnull URI relativeTarget) {
+        try {
+            putBytes(source.readAllBytes(), relativeTarget);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * PUTs the source string to target URI. The target MUST BE relative from the
      * {@link RemoteRepository#getUrl()} root.
@@ -19,6 +19,7 @@
 package org.apache.maven.di.tool;
 
 import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
@@ -28,6 +29,7 @@
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
 import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 
 import java.io.BufferedReader;
@@ -47,6 +49,10 @@
  * This processor scans for classes with the {@code @Named} annotation and creates a file
  * at {@code META-INF/maven/org.apache.maven.api.di.Inject} containing the fully qualified
  * names of these classes.
+ * <p>
+ * A factory is also generated for each of these classes when possible, which the injector uses
+ * to create and inject instances without reflection. The factory of a class is named after the class,
+ * with nested class names separated by {@code _}, followed by {@value #FACTORY_SUFFIX}.
  *
  * @since 4.0.0
  */
@@ -54,11 +60,27 @@
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
 public class DiIndexProcessor extends AbstractProcessor {
 
+    /**
+     * Suffix of the name of the generated factories.
+     */
+    public static final String FACTORY_SUFFIX = FactoryGenerator.FACTORY_SUFFIX;
+
     /**
      * Set of fully qualified class names that have been processed and contain the {@link Named} annotation.
      */
     private final Set<String> processedClasses = new HashSet<>();
 
+    /**
+     * Generator of the factories of the processed classes.
+     */
+    private FactoryGenerator factoryGenerator;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        factoryGenerator = new FactoryGenerator(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+    }
+
     /**
      * Processes classes with the {@link Named} annotation and generates an index file.
      *
@@ -75,6 +97,7 @@ public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment
             if (element instanceof TypeElement typeElement) {
                 String className = getFullClassName(typeElement);
                 processedClasses.add(className);
+                generateFactory(typeElement);
             }
         }
 
@@ -89,6 +112,28 @@ public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment
         return true;
     }
 
+    /**
+     * Generates the factory of the given class, unless it cannot be instantiated without reflection.
+     *
+     * @param typeElement the type element to generate the factory for
+     */
+    private void generateFactory(TypeElement typeElement) {
+        String factoryName = factoryGenerator.getFactoryName(typeElement);
+        try {
+            String source = factoryGenerator.generate(typeElement);
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(factoryName, typeElement);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (FactoryGenerator.UnsupportedException e) {
+            logMessage(
+                    Diagnostic.Kind.NOTE,
+                    "Not generating factory for " + typeElement.getQualifiedName() + ": " + e.getMessage());
+        } catch (IOException e) {
+            logMessage(Diagnostic.Kind.WARNING, "Unable to generate factory " + factoryName + ": " + e);
+        }
+    }
+
     /**
      * Gets the fully qualified class name for a type element, including handling inner classes.
      *
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.di.tool;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.apache.maven.api.di.Inject;
+
+/**
+ * Generates the source of the factory of a component, which creates instances and injects their
+ * members using direct calls instead of reflection.
+ * <p>
+ * The factory of a class {@code Outer$Inner} is named {@code Outer_Inner}{@value #FACTORY_SUFFIX} and
+ * belongs to the package of the class. It implements {@code Function<Object[], T>} to call the injected
+ * constructor with the given arguments, and {@code BiConsumer<T, Object[]>} to inject the members of
+ * an instance: the {@code @Inject} fields, then the arguments of the {@code @Inject} methods.
+ * Members are visited from the class up to its superclasses and, within a class, in the order of their names,
+ * which must be followed by the injector when resolving the arguments.
+ * <p>
+ * No factory is generated if an injection point is not accessible from the package of the class,
+ * in which case the injector falls back to reflection.
+ */
+class FactoryGenerator {
+
+    static final String FACTORY_SUFFIX = "_DiFactory";
+
+    private final Elements elements;
+
+    private final Types types;
+
+    FactoryGenerator(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    /**
+     * Thrown when no factory can be generated for a class.
+     */
+    static class UnsupportedException extends Exception {
+        UnsupportedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Returns the fully qualified name of the factory of the given class.
+     */
+    String getFactoryName(TypeElement type) {
+        PackageElement pkg = elements.getPackageOf(type);
+        String name = getSimpleFactoryName(type);
+        return pkg.isUnnamed() ? name : pkg.getQualifiedName() + "." + name;
+    }
+
+    /**
+     * Generates the source of the factory of the given class.
+     *
+     * @throws UnsupportedException if the class cannot be created or injected without reflection
+     */
+    String generate(TypeElement type) throws UnsupportedException {
+        PackageElement pkg = elements.getPackageOf(type);
+        check(type.getKind() == ElementKind.CLASS, "not a class");
+        check(!type.getModifiers().contains(Modifier.ABSTRACT), "abstract class");
+        check(type.getTypeParameters().isEmpty(), "generic class");
+        for (Element e = type; e instanceof TypeElement t; e = e.getEnclosingElement()) {
+            check(
+                    t.getNestingKind() == NestingKind.TOP_LEVEL
+                            || t.getNestingKind() == NestingKind.MEMBER
+                                    && t.getModifiers().contains(Modifier.STATIC),
+                    "inner or local class");
+        }
+        check(isAccessible(type, pkg), "inaccessible class");
+
+        String typeName = type.getQualifiedName().toString();
+        List<String> arguments = new ArrayList<>();
+        ExecutableElement constructor = getConstructor(type);
+        check(isAccessible(constructor, pkg), "inaccessible constructor");
+        check(constructor.getThrownTypes().isEmpty(), "constructor throwing exceptions");
+        for (VariableElement parameter : constructor.getParameters()) {
+            arguments.add(cast(parameter.asType(), pkg, arguments.size()));
+        }
+
+        List<String> statements = new ArrayList<>();
+        int index = 0;
+        for (TypeElement t = type; t != null; t = getSuperclass(t)) {
+            String target = t == type ? "instance" : "((" + t.getQualifiedName() + ") instance)";
+            for (VariableElement field : getInjectedMembers(ElementFilter.fieldsIn(t.getEnclosedElements()))) {
+                check(!field.getModifiers().contains(Modifier.STATIC), "static injected field " + field);
+                check(!field.getModifiers().contains(Modifier.FINAL), "final injected field " + field);
+                check(isAccessible(field, pkg), "inaccessible field " + field);
+                statements.add(target + "." + field.getSimpleName() + " = " + cast(field.asType(), pkg, index++) + ";");
+            }
+        }
+        for (TypeElement t = type; t != null; t = getSuperclass(t)) {
+            String target = t == type ? "instance" : "((" + t.getQualifiedName() + ") instance)";
+            Set<String> names = new HashSet<>();
+            for (ExecutableElement method : getInjectedMembers(ElementFilter.methodsIn(t.getEnclosedElements()))) {
+                if (method.getModifiers().contains(Modifier.STATIC)) {
+                    check(t != type, "injected factory method " + method);
+                    continue;
+                }
+                check(names.add(method.getSimpleName().toString()), "overloaded injected method " + method);
+                check(isAccessible(method, pkg), "inaccessible method " + method);
+                check(method.getThrownTypes().isEmpty(), "injected method throwing exceptions " + method);
+                List<String> args = new ArrayList<>();
+                for (VariableElement parameter : method.getParameters()) {
+                    args.add(cast(parameter.asType(), pkg, index++));
+                }
+                statements.add(target + "." + method.getSimpleName() + "(" + String.join(", ", args) + ");");
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("// Generated by ").append(DiIndexProcessor.class.getName()).append(", do not edit.\n");
+        if (!pkg.isUnnamed()) {
+            sb.append("package ").append(pkg.getQualifiedName()).append(";\n");
+        }
+        sb.append("\n");
+        sb.append("/**\n");
+        sb.append(" * Factory of {@link ").append(typeName).append("}.\n");
+        sb.append(" */\n");
+        sb.append("public final class ").append(getSimpleFactoryName(type)).append("\n");
+        sb.append("        implements java.util.function.Function<java.lang.Object[], ")
+                .append(typeName)
+                .append(">,\n");
+        sb.append("                java.util.function.BiConsumer<")
+                .append(typeName)
+                .append(", java.lang.Object[]> {\n");
+        sb.append("\n");
+        sb.append("    @Override\n");
+        sb.append("    @SuppressWarnings({\"unchecked\", \"rawtypes\", \"cast\"})\n");
+        sb.append("    public ").append(typeName).append(" apply(java.lang.Object[] args) {\n");
+        sb.append("        return new ")
+                .append(typeName)
+                .append("(")
+                .append(String.join(", ", arguments))
+                .append(");\n");
+        sb.append("    }\n");
+        sb.append("\n");
+        sb.append("    @Override\n");
+        sb.append("    @SuppressWarnings({\"unchecked\", \"rawtypes\", \"cast\"})\n");
+        sb.append("    public void accept(").append(typeName).append(" instance, java.lang.Object[] args) {\n");
+        for (String statement : statements) {
+            sb.append("        ").append(statement).append("\n");
+        }
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Returns the constructor used by the injector: the {@code @Inject} constructor, or else the only constructor.
+     */
+    private ExecutableElement getConstructor(TypeElement type) throws UnsupportedException {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        List<ExecutableElement> injectConstructors = getInjectedMembers(constructors);
+        check(injectConstructors.size() <= 1, "more than one inject constructor");
+        if (injectConstructors.size() == 1) {
+            return injectConstructors.get(0);
+        }
+        check(constructors.size() == 1, "no inject constructor");
+        return constructors.get(0);
+    }
+
+    private <E extends Element> List<E> getInjectedMembers(List<E> members) {
+        List<E> injected = new ArrayList<>();
+        for (E member : members) {
+            if (member.getAnnotation(Inject.class) != null) {
+                injected.add(member);
+            }
+        }
+        injected.sort(Comparator.comparing(e -> e.getSimpleName().toString()));
+        return injected;
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+    }
+
+    private String cast(TypeMirror type, PackageElement pkg, int index) throws UnsupportedException {
+        return "(" + getErasedName(type, pkg) + ") args[" + index + "]";
+    }
+
+    private String getErasedName(TypeMirror type, PackageElement pkg) throws UnsupportedException {
+        TypeMirror erased = types.erasure(type);
+        if (erased.getKind().isPrimitive()) {
+            return erased.getKind().name().toLowerCase(Locale.ROOT);
+        } else if (erased instanceof ArrayType arrayType) {
+            return getErasedName(arrayType.getComponentType(), pkg) + "[]";
+        } else if (erased instanceof DeclaredType declaredType) {
+            TypeElement element = (TypeElement) declaredType.asElement();
+            check(isAccessible(element, pkg), "inaccessible type " + element);
+            return element.getQualifiedName().toString();
+        }
+        throw new UnsupportedException("unsupported type " + type);
+    }
+
+    /**
+     * Checks whether the given element and its enclosing classes can be accessed from the given package.
+     */
+    private boolean isAccessible(Element element, PackageElement pkg) {
+        for (Element e = element; e != null && !(e instanceof PackageElement); e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || !modifiers.contains(Modifier.PUBLIC)
+                            && !elements.getPackageOf(e).equals(pkg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getSimpleFactoryName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName()).append(FACTORY_SUFFIX);
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement t; e = e.getEnclosingElement()) {
+            name.insert(0, "_").insert(0, t.getSimpleName());
+        }
+        return name.toString();
+    }
+
+    private static void check(boolean condition, String message) throws UnsupportedException {
+        if (!condition) {
+            throw new UnsupportedException(message);
+        }
+    }
+}
@@ -26,7 +26,8 @@
  * that allows for efficient discovery of injectable components at runtime.
  * <p>
  * The generated index is stored at {@code META-INF/maven/org.apache.maven.api.di.Inject} and contains
- * the fully qualified names of all classes annotated with {@code @Named}.
+ * the fully qualified names of all classes annotated with {@code @Named}. The processor also generates
+ * factories for these classes, so that they can be instantiated and injected without reflection.
  *
  * @since 4.0.0
  */
@@ -77,6 +77,16 @@ public String getModelId() {
         return this.modelId;
     }
 
+    /**
+     * Get the sources this source has been merged from, or {@code null} if this source has not been merged.
+     *
+     * @return the merged sources
+     * @since 4.0.0
+     */
+    public List<InputSource> getInputs() {
+        return this.inputs;
+    }
+
     /**
      * Gets the parent InputLocation where this InputLocation may have been imported from.
      * Can return {@code null}.
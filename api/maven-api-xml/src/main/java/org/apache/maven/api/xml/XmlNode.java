@@ -21,6 +21,7 @@
 import java.io.IOException;
 import java.io.Serializable;
 import java.io.StringWriter;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -453,23 +454,71 @@ public XmlNode build() {
             return new Impl(prefix, namespaceUri, name, value, attributes, children, inputLocation);
         }
 
-        private record Impl(
-                String prefix,
-                String namespaceUri,
-                @Nonnull String name,
-                String value,
-                @Nonnull Map<String, String> attributes,
-                @Nonnull List<XmlNode> children,
-                Object inputLocation)
-                implements XmlNode, Serializable {
-
-            private Impl {
-                // Validation and normalization from the original constructor
-                prefix = prefix == null ? "" : prefix;
-                namespaceUri = namespaceUri == null ? "" : namespaceUri;
-                name = Objects.requireNonNull(name);
-                attributes = ImmutableCollections.copy(attributes);
-                children = ImmutableCollections.copy(children);
+        private static final class Impl implements XmlNode, Serializable {
+
+            // children lists larger than this are indexed by name on the first lookup
+            private static final int CHILD_INDEX_THRESHOLD = 16;
+
+            private final String prefix;
+            private final String namespaceUri;
+            private final String name;
+            private final String value;
+            private final Map<String, String> attributes;
+            private final List<XmlNode> children;
+            private final Object inputLocation;
+
+            private transient volatile Map<String, XmlNode> childIndex;
+
+            private Impl(
+                    String prefix,
+                    String namespaceUri,
+                    @Nonnull String name,
+                    String value,
+                    Map<String, String> attributes,
+                    List<XmlNode> children,
+                    Object inputLocation) {
+                this.prefix = prefix == null ? "" : prefix;
+                this.namespaceUri = namespaceUri == null ? "" : namespaceUri;
+                this.name = Objects.requireNonNull(name);
+                this.value = value;
+                this.attributes = ImmutableCollections.copy(attributes);
+                this.children = ImmutableCollections.copy(children);
+                this.inputLocation = inputLocation;
+            }
+
+            @Override
+            public String prefix() {
+                return prefix;
+            }
+
+            @Override
+            public String namespaceUri() {
+                return namespaceUri;
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String value() {
+                return value;
+            }
+
+            @Override
+            public Map<String, String> attributes() {
+                return attributes;
+            }
+
+            @Override
+            public List<XmlNode> children() {
+                return children;
+            }
+
+            @Override
+            public Object inputLocation() {
+                return inputLocation;
             }
 
             @Override
@@ -479,13 +528,26 @@ public String attribute(@Nonnull String name) {
 
             @Override
             public XmlNode child(String name) {
-                if (name != null) {
-                    ListIterator<XmlNode> it = children.listIterator(children.size());
-                    while (it.hasPrevious()) {
-                        XmlNode child = it.previous();
-                        if (name.equals(child.name())) {
-                            return child;
+                if (name == null) {
+                    return null;
+                }
+                if (children.size() > CHILD_INDEX_THRESHOLD) {
+                    Map<String, XmlNode> index = childIndex;
+                    if (index == null) {
+                        // the last child wins, as with the backward scan below
+                        index = new HashMap<>();
+                        for (XmlNode child : children) {
+                            index.put(child.name(), child);
                         }
+                        childIndex = index;
+                    }
+                    return index.get(name);
+                }
+                ListIterator<XmlNode> it = children.listIterator(children.size());
+                while (it.hasPrevious()) {
+                    XmlNode child = it.previous();
+                    if (name.equals(child.name())) {
+                        return child;
                     }
                 }
                 return null;
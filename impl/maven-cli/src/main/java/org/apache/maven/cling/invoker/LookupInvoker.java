@@ -36,6 +36,7 @@
 import java.util.Objects;
 import java.util.Properties;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import org.apache.maven.api.Constants;
@@ -80,11 +81,13 @@
 import org.apache.maven.impl.SettingsUtilsV4;
 import org.apache.maven.jline.FastTerminal;
 import org.apache.maven.jline.MessageUtils;
+import org.apache.maven.logging.BufferedBuildEventListener;
 import org.apache.maven.logging.BuildEventListener;
 import org.apache.maven.logging.LoggingOutputStream;
 import org.apache.maven.logging.ProjectBuildLogAppender;
 import org.apache.maven.logging.SimpleBuildEventListener;
 import org.apache.maven.logging.api.LogLevelRecorder;
+import org.apache.maven.slf4j.AsyncLogWriter;
 import org.apache.maven.slf4j.MavenSimpleLogger;
 import org.codehaus.plexus.PlexusContainer;
 import org.jline.terminal.Terminal;
@@ -298,7 +301,13 @@ protected BuildEventListener determineBuildEventListener(C context) {
 
     protected BuildEventListener doDetermineBuildEventListener(C context) {
         Consumer<String> writer = determineWriter(context);
-        return new SimpleBuildEventListener(writer);
+        BuildEventListener listener = new SimpleBuildEventListener(writer);
+        Map<String, String> userProperties = context.protoSession.getUserProperties();
+        if (Boolean.parseBoolean(userProperties.get(Constants.MAVEN_BUILDER_BUFFERED_OUTPUT))) {
+            String memory = userProperties.get(Constants.MAVEN_BUILDER_BUFFERED_OUTPUT_MEMORY);
+            listener = new BufferedBuildEventListener(listener, memory != null ? Long.parseLong(memory) : 1024 * 1024);
+        }
+        return listener;
     }
 
     protected final void createTerminal(C context) {
@@ -314,6 +323,12 @@ protected final void createTerminal(C context) {
 
             context.terminal = MessageUtils.getTerminal();
             context.closeables.add(MessageUtils::systemUninstall);
+            // closeables are closed in reverse order: write pending output before the terminal goes away
+            context.closeables.add(LookupInvoker::closeAsyncLogWriter);
+            if (context.buildEventListener instanceof BufferedBuildEventListener bufferedBuildEventListener) {
+                // closed first: write the output of the projects that did not finish while the terminal is up
+                context.closeables.add(bufferedBuildEventListener);
+            }
             MessageUtils.registerShutdownHook(); // safety belt
         } else {
             doConfigureWithTerminal(context, context.terminal);
@@ -395,23 +410,61 @@ protected Consumer<String> determineWriter(C context) {
 
     protected Consumer<String> doDetermineWriter(C context) {
         Options options = context.invokerRequest.options();
+        Supplier<PrintWriter> writer;
         if (options.logFile().isPresent()) {
             Path logFile = context.cwd.resolve(options.logFile().get());
             try {
                 PrintWriter printWriter = new PrintWriter(Files.newBufferedWriter(logFile), true);
                 context.closeables.add(printWriter);
-                return printWriter::println;
+                writer = () -> printWriter;
             } catch (IOException e) {
                 throw new MavenException("Unable to redirect logging to " + logFile, e);
             }
         } else {
             // Given the terminal creation has been offloaded to a different thread,
             // do not pass directly the terminal writer
-            return msg -> {
-                PrintWriter pw = context.terminal.writer();
+            writer = () -> context.terminal.writer();
+        }
+        return logWriter(writer);
+    }
+
+    /**
+     * Returns a consumer printing log lines to the given writer, through the asynchronous log writer when it is
+     * enabled. The asynchronous log writer is looked up for each line, as it is only created once logging has been
+     * activated, which happens after the writer has been determined.
+     */
+    static Consumer<String> logWriter(Supplier<PrintWriter> writer) {
+        AsyncLogWriter.Target target = new AsyncLogWriter.Target() {
+            @Override
+            public void print(String text) {
+                writer.get().print(text);
+            }
+
+            @Override
+            public void flush() {
+                writer.get().flush();
+            }
+        };
+        return msg -> {
+            AsyncLogWriter asyncWriter = MavenSimpleLogger.getAsyncWriter();
+            if (asyncWriter != null) {
+                asyncWriter.write(target, msg + System.lineSeparator());
+            } else {
+                PrintWriter pw = writer.get();
                 pw.println(msg);
                 pw.flush();
-            };
+            }
+        };
+    }
+
+    /**
+     * Closes the asynchronous log writer, if enabled, which writes its pending output. Output logged afterward is
+     * written synchronously.
+     */
+    static void closeAsyncLogWriter() {
+        AsyncLogWriter asyncWriter = MavenSimpleLogger.getAsyncWriter();
+        if (asyncWriter != null) {
+            asyncWriter.close();
         }
     }
 
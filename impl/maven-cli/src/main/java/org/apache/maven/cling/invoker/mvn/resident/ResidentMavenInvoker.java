@@ -18,35 +18,100 @@
  */
 package org.apache.maven.cling.invoker.mvn.resident;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.cli.CoreExtensions;
 import org.apache.maven.api.cli.InvokerException;
 import org.apache.maven.api.cli.InvokerRequest;
+import org.apache.maven.api.cli.extensions.CoreExtension;
 import org.apache.maven.api.services.Lookup;
 import org.apache.maven.cling.invoker.mvn.MavenContext;
 import org.apache.maven.cling.invoker.mvn.MavenInvoker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
 
 /**
- * Resident invoker implementation, specialization of Maven Invoker, but keeps Maven instance resident. This implies, that
- * things like environment, system properties, extensions etc. are loaded only once. It is caller duty to ensure
- * that subsequent call is right for the resident instance (ie no env change or different extension needed).
- * This implementation "pre-populates" MavenContext with pre-existing stuff (except for very first call)
- * and does not let DI container to be closed.
+ * Resident invoker implementation, specialization of Maven Invoker, but keeps Maven instances resident. This implies,
+ * that things like environment, system properties, extensions etc. are loaded only once per Maven instance.
+ * <p>
+ * Resident Maven instances are pooled by the configuration they were created with, that is the installation
+ * directory, the core extensions and the extension class path. An invocation borrows an idle instance with the same
+ * configuration, or creates a new one, and returns it to the pool when done, so concurrent invocations never share
+ * an instance. At most {@code maxContexts} instances are retained: when the limit is reached, the least recently used
+ * idle instance is discarded, or if all instances are in use, the invocation runs with a non-resident instance.
+ * Instances idle for longer than {@code idleTimeout} are discarded when an invocation starts or ends, and by a
+ * background sweep running at most every {@code idleTimeout}, so that an unused pool eventually releases them.
+ * <p>
+ * Note: Maven still pushes user properties to Java System Properties, which are shared by the whole JVM. It is caller
+ * duty to ensure that concurrent invocations do not depend on conflicting system or user properties.
  */
 public class ResidentMavenInvoker extends MavenInvoker {
 
-    private final ConcurrentHashMap<String, MavenContext> residentContext;
+    public static final int DEFAULT_MAX_CONTEXTS = 4;
+
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResidentMavenInvoker.class);
+
+    private static final long MIN_SWEEP_PERIOD = TimeUnit.SECONDS.toNanos(1);
+
+    private record IdleContext(MavenContext context, long since) {}
+
+    private final int maxContexts;
+
+    private final long idleTimeout;
+
+    private final Map<String, Deque<IdleContext>> idleContexts = new HashMap<>();
+
+    private int residentContexts;
+
+    private ScheduledExecutorService sweeper;
+
+    private boolean closed;
 
     public ResidentMavenInvoker(Lookup protoLookup) {
+        this(protoLookup, DEFAULT_MAX_CONTEXTS, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    public ResidentMavenInvoker(Lookup protoLookup, int maxContexts, Duration idleTimeout) {
         super(protoLookup, null);
-        this.residentContext = new ConcurrentHashMap<>();
+        if (maxContexts < 1) {
+            throw new IllegalArgumentException("maxContexts must be positive");
+        }
+        this.maxContexts = maxContexts;
+        this.idleTimeout = requireNonNull(idleTimeout, "idleTimeout").toNanos();
     }
 
     @Override
     public void close() throws InvokerException {
+        List<MavenContext> contexts = new ArrayList<>();
+        synchronized (idleContexts) {
+            closed = true;
+            for (Deque<IdleContext> idle : idleContexts.values()) {
+                idle.forEach(c -> contexts.add(c.context()));
+            }
+            idleContexts.clear();
+            residentContexts -= contexts.size();
+            if (sweeper != null) {
+                sweeper.shutdownNow();
+            }
+        }
         ArrayList<Exception> exceptions = new ArrayList<>();
-        for (MavenContext context : residentContext.values()) {
+        for (MavenContext context : contexts) {
             try {
                 context.doCloseContainer();
             } catch (Exception e) {
@@ -62,16 +127,42 @@ public void close() throws InvokerException {
 
     @Override
     protected MavenContext createContext(InvokerRequest invokerRequest) {
-        // TODO: in a moment Maven stop pushing user properties to system properties (and maybe something more)
-        // and allow multiple instances per JVM, this may become a pool? derive key based in invokerRequest?
-        MavenContext result = residentContext.computeIfAbsent("resident", k -> new MavenContext(invokerRequest, false));
-        return copyIfDifferent(result, invokerRequest);
+        String key = residentKey(invokerRequest);
+        List<MavenContext> discarded = new ArrayList<>();
+        MavenContext resident = null;
+        synchronized (idleContexts) {
+            discardExpired(discarded);
+            Deque<IdleContext> idle = idleContexts.get(key);
+            if (idle != null) {
+                resident = idle.pop().context();
+                if (idle.isEmpty()) {
+                    idleContexts.remove(key);
+                }
+            } else if (!closed) {
+                if (residentContexts >= maxContexts) {
+                    discardLeastRecentlyUsed(discarded);
+                }
+                if (residentContexts < maxContexts) {
+                    residentContexts++;
+                    resident = new MavenContext(invokerRequest, false);
+                }
+            }
+        }
+        discarded.forEach(this::closeQuietly);
+        if (resident == null) {
+            // all resident instances are in use: this one is not retained and closes its own container
+            return new MavenContext(invokerRequest);
+        }
+        MavenContext context = copy(resident, invokerRequest);
+        MavenContext borrowed = resident;
+        context.closeables.add(() -> release(key, borrowed, context));
+        return context;
     }
 
-    protected MavenContext copyIfDifferent(MavenContext mavenContext, InvokerRequest invokerRequest) {
-        if (invokerRequest == mavenContext.invokerRequest) {
-            return mavenContext;
-        }
+    /**
+     * Returns a context for the given request that carries over the "resident" things of the given resident context.
+     */
+    protected MavenContext copy(MavenContext mavenContext, InvokerRequest invokerRequest) {
         MavenContext shadow = new MavenContext(invokerRequest, false);
 
         // we carry over only "resident" things
@@ -82,4 +173,130 @@ protected MavenContext copyIfDifferent(MavenContext mavenContext, InvokerRequest
 
         return shadow;
     }
+
+    /**
+     * Returns the key of the resident Maven instances able to serve the given request, made of the inputs
+     * used to create the container.
+     */
+    protected String residentKey(InvokerRequest invokerRequest) {
+        StringBuilder key =
+                new StringBuilder(invokerRequest.installationDirectory().toString());
+        String extClassPath = invokerRequest.userProperties().get(Constants.MAVEN_EXT_CLASS_PATH);
+        if (extClassPath == null) {
+            extClassPath = invokerRequest.systemProperties().get(Constants.MAVEN_EXT_CLASS_PATH);
+        }
+        key.append('\n').append(extClassPath);
+        boolean interpolated = false;
+        for (CoreExtensions extensions : invokerRequest.coreExtensions().orElse(List.of())) {
+            for (CoreExtension extension : extensions.coreExtensions()) {
+                String coordinates = extension.getGroupId()
+                        + ':'
+                        + extension.getArtifactId()
+                        + ':'
+                        + extension.getVersion()
+                        + ':'
+                        + extension.getClassLoadingStrategy()
+                        + ':'
+                        + extension.getConfiguration();
+                interpolated |= coordinates.contains("${");
+                key.append('\n').append(coordinates);
+            }
+        }
+        if (interpolated) {
+            // the extensions are interpolated with the user and system properties
+            key.append('\n').append(new TreeMap<>(invokerRequest.userProperties()));
+            key.append('\n').append(new TreeMap<>(invokerRequest.systemProperties()));
+        }
+        return key.toString();
+    }
+
+    private void release(String key, MavenContext resident, MavenContext context) throws Exception {
+        resident.containerCapsule = context.containerCapsule;
+        resident.lookup = context.lookup;
+        resident.eventSpyDispatcher = context.eventSpyDispatcher;
+        resident.maven = context.maven;
+        List<MavenContext> discarded = new ArrayList<>();
+        boolean retained;
+        synchronized (idleContexts) {
+            discardExpired(discarded);
+            retained = !closed;
+            if (retained) {
+                idleContexts
+                        .computeIfAbsent(key, k -> new ArrayDeque<>())
+                        .push(new IdleContext(resident, System.nanoTime()));
+                startSweeper();
+            } else {
+                residentContexts--;
+            }
+        }
+        discarded.forEach(this::closeQuietly);
+        if (!retained) {
+            resident.doCloseContainer();
+        }
+    }
+
+    /**
+     * Starts the background sweep of the expired idle contexts, once a context has been retained.
+     */
+    private void startSweeper() {
+        if (sweeper == null) {
+            sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "mvn-resident-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(idleTimeout, MIN_SWEEP_PERIOD);
+            sweeper.scheduleWithFixedDelay(this::sweep, period, period, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void sweep() {
+        List<MavenContext> discarded = new ArrayList<>();
+        synchronized (idleContexts) {
+            discardExpired(discarded);
+        }
+        discarded.forEach(this::closeQuietly);
+    }
+
+    private void discardExpired(List<MavenContext> discarded) {
+        long now = System.nanoTime();
+        for (Iterator<Deque<IdleContext>> it = idleContexts.values().iterator(); it.hasNext(); ) {
+            Deque<IdleContext> idle = it.next();
+            // the least recently used contexts are at the end
+            while (!idle.isEmpty() && now - idle.peekLast().since() > idleTimeout) {
+                discarded.add(idle.removeLast().context());
+                residentContexts--;
+            }
+            if (idle.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    private void discardLeastRecentlyUsed(List<MavenContext> discarded) {
+        Map.Entry<String, Deque<IdleContext>> lru = null;
+        for (Map.Entry<String, Deque<IdleContext>> entry : idleContexts.entrySet()) {
+            if (lru == null
+                    || entry.getValue().peekLast().since()
+                            < lru.getValue().peekLast().since()) {
+                lru = entry;
+            }
+        }
+        if (lru != null) {
+            discarded.add(lru.getValue().removeLast().context());
+            residentContexts--;
+            if (lru.getValue().isEmpty()) {
+                idleContexts.remove(lru.getKey());
+            }
+        }
+    }
+
+    private void closeQuietly(MavenContext context) {
+        try {
+            context.doCloseContainer();
+        } catch (Exception e) {
+            // the context is discarded anyway
+            LOGGER.debug("Could not cleanly close a discarded resident context", e);
+        }
+    }
 }
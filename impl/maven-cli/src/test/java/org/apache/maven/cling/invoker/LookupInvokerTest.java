@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.cling.invoker;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.slf4j.MavenLoggerFactory;
+import org.apache.maven.slf4j.MavenSimpleLogger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LookupInvokerTest {
+
+    @Test
+    void testLogWriterUsesAsyncWriterActivatedLater() {
+        StringWriter out = new StringWriter();
+        PrintWriter printWriter = new PrintWriter(out);
+        List<Thread> printing = new CopyOnWriteArrayList<>();
+        // the writer is determined before logging is activated
+        Consumer<String> writer = LookupInvoker.logWriter(() -> {
+            printing.add(Thread.currentThread());
+            return printWriter;
+        });
+
+        String previous = System.setProperty(Constants.MAVEN_LOGGER_ASYNC, "true");
+        try {
+            new MavenLoggerFactory().reconfigure();
+            assertNotNull(MavenSimpleLogger.getAsyncWriter());
+
+            writer.accept("first");
+            assertFalse(printing.contains(Thread.currentThread()), "the line is queued");
+
+            LookupInvoker.closeAsyncLogWriter();
+            assertEquals("first" + System.lineSeparator(), out.toString());
+
+            // once closed, lines are written synchronously
+            writer.accept("second");
+            assertTrue(printing.contains(Thread.currentThread()));
+            assertEquals("first" + System.lineSeparator() + "second" + System.lineSeparator(), out.toString());
+
+            // the writer is created again when logging is activated by another invocation
+            new MavenLoggerFactory().reconfigure();
+            printing.clear();
+            writer.accept("third");
+            assertFalse(printing.contains(Thread.currentThread()), "the line is queued");
+            LookupInvoker.closeAsyncLogWriter();
+            assertTrue(out.toString().endsWith("third" + System.lineSeparator()));
+        } finally {
+            if (previous != null) {
+                System.setProperty(Constants.MAVEN_LOGGER_ASYNC, previous);
+            } else {
+                System.clearProperty(Constants.MAVEN_LOGGER_ASYNC);
+            }
+            new MavenLoggerFactory().reconfigure();
+        }
+    }
+}
@@ -20,13 +20,21 @@
 
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import org.apache.maven.api.cli.Invoker;
+import org.apache.maven.api.cli.InvokerRequest;
 import org.apache.maven.api.cli.Parser;
+import org.apache.maven.api.cli.ParserRequest;
+import org.apache.maven.api.services.Lookup;
+import org.apache.maven.cling.invoker.ContainerCapsule;
 import org.apache.maven.cling.invoker.ProtoLookup;
+import org.apache.maven.cling.invoker.mvn.MavenContext;
 import org.apache.maven.cling.invoker.mvn.MavenInvokerTestSupport;
 import org.apache.maven.cling.invoker.mvn.MavenParser;
 import org.codehaus.plexus.classworlds.ClassWorld;
@@ -36,6 +44,15 @@
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDir;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 /**
  * Resident UT.
  */
@@ -68,4 +85,90 @@ void jimFs() throws Exception {
             invoke(fs.getPath("/cwd"), fs.getPath("/home"), List.of("verify"), List.of());
         }
     }
+
+    @Test
+    void contextsArePooledByConfiguration(@TempDir(cleanup = CleanupMode.ON_SUCCESS) Path tempDir) throws Exception {
+        try (ResidentMavenInvoker invoker =
+                new ResidentMavenInvoker(ProtoLookup.builder().build(), 1, Duration.ofMinutes(30))) {
+            MavenContext first = invoker.createContext(invokerRequest(tempDir, "maven-a"));
+            Lookup lookup = mock(Lookup.class);
+            first.lookup = lookup;
+
+            // the only resident instance is in use
+            MavenContext concurrent = invoker.createContext(invokerRequest(tempDir, "maven-a"));
+            assertTrue(concurrent.containerCapsuleManaged);
+            assertNull(concurrent.lookup);
+            concurrent.close();
+
+            first.close();
+            MavenContext second = invoker.createContext(invokerRequest(tempDir, "maven-a"));
+            assertFalse(second.containerCapsuleManaged);
+            assertSame(lookup, second.lookup);
+            second.close();
+
+            // another configuration replaces the idle instance
+            MavenContext other = invoker.createContext(invokerRequest(tempDir, "maven-b"));
+            assertFalse(other.containerCapsuleManaged);
+            assertNull(other.lookup);
+            other.close();
+        }
+    }
+
+    @Test
+    void idleContextsExpire(@TempDir(cleanup = CleanupMode.ON_SUCCESS) Path tempDir) throws Exception {
+        try (ResidentMavenInvoker invoker =
+                new ResidentMavenInvoker(ProtoLookup.builder().build(), 1, Duration.ZERO)) {
+            MavenContext first = invoker.createContext(invokerRequest(tempDir, "maven"));
+            first.lookup = mock(Lookup.class);
+            first.close();
+
+            Thread.sleep(1);
+            MavenContext second = invoker.createContext(invokerRequest(tempDir, "maven"));
+            assertNull(second.lookup);
+            second.close();
+        }
+    }
+
+    @Test
+    void idleContextsExpireOnRelease(@TempDir(cleanup = CleanupMode.ON_SUCCESS) Path tempDir) throws Exception {
+        try (ResidentMavenInvoker invoker =
+                new ResidentMavenInvoker(ProtoLookup.builder().build(), 2, Duration.ZERO)) {
+            MavenContext first = invoker.createContext(invokerRequest(tempDir, "maven-a"));
+            MavenContext second = invoker.createContext(invokerRequest(tempDir, "maven-b"));
+            ContainerCapsule capsule = mock(ContainerCapsule.class);
+            first.containerCapsule = capsule;
+            first.close();
+
+            Thread.sleep(1);
+            second.close();
+            verify(capsule).close();
+        }
+    }
+
+    @Test
+    void idleContextsExpireInBackground(@TempDir(cleanup = CleanupMode.ON_SUCCESS) Path tempDir) throws Exception {
+        try (ResidentMavenInvoker invoker =
+                new ResidentMavenInvoker(ProtoLookup.builder().build(), 1, Duration.ofMillis(100))) {
+            MavenContext first = invoker.createContext(invokerRequest(tempDir, "maven"));
+            ContainerCapsule capsule = mock(ContainerCapsule.class);
+            first.containerCapsule = capsule;
+            first.close();
+
+            verify(capsule, timeout(10_000)).close();
+        }
+    }
+
+    private static InvokerRequest invokerRequest(Path tempDir, String installation) {
+        InvokerRequest invokerRequest = mock(InvokerRequest.class);
+        when(invokerRequest.parserRequest()).thenReturn(mock(ParserRequest.class));
+        when(invokerRequest.cwd()).thenReturn(tempDir);
+        when(invokerRequest.installationDirectory()).thenReturn(tempDir.resolve(installation));
+        when(invokerRequest.userHomeDirectory()).thenReturn(tempDir);
+        when(invokerRequest.topDirectory()).thenReturn(tempDir);
+        when(invokerRequest.rootDirectory()).thenReturn(Optional.empty());
+        when(invokerRequest.userProperties()).thenReturn(Map.of());
+        when(invokerRequest.systemProperties()).thenReturn(Map.of());
+        when(invokerRequest.coreExtensions()).thenReturn(Optional.empty());
+        return invokerRequest;
+    }
 }
@@ -24,11 +24,15 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
@@ -43,6 +47,7 @@
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.model.Model;
 import org.apache.maven.api.services.Lookup;
 import org.apache.maven.eventspy.EventSpy;
@@ -53,6 +58,7 @@
 import org.apache.maven.project.artifact.ProjectArtifact;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.repository.WorkspaceRepository;
+import org.eclipse.aether.util.ConfigUtils;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,6 +88,8 @@ class ReactorReader implements MavenWorkspaceReader {
     private Path projectLocalRepository;
     // projectId -> Deque<lifecycle>
     private final Map<String, Deque<String>> lifecycles = new ConcurrentHashMap<>();
+    // projectId -> newest file of the output directory
+    private final Map<String, OutputFingerprint> outputFingerprints = new ConcurrentHashMap<>();
 
     @Inject
     ReactorReader(MavenSession session) {
@@ -223,7 +231,7 @@ private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedAr
             return true;
         }
 
-        try (Stream<Path> outputFiles = Files.walk(outputDirectory)) {
+        try {
             // Not using File#lastModified() to avoid a Linux JDK8 milliseconds precision bug: JDK-8177809.
             long artifactLastModified =
                     Files.getLastModifiedTime(packagedArtifactFile.toPath()).toMillis();
@@ -236,25 +244,17 @@ private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedAr
                 }
             }
 
-            for (Path outputFile : (Iterable<Path>) outputFiles::iterator) {
-                if (Files.isDirectory(outputFile)) {
-                    continue;
-                }
-
-                long outputFileLastModified =
-                        Files.getLastModifiedTime(outputFile).toMillis();
-                if (outputFileLastModified > artifactLastModified) {
-                    LOGGER.warn(
-                            "File '{}' is more recent than the packaged artifact for '{}', "
-                                    + "please run a full `mvn package` build",
-                            relativizeOutputFile(outputFile),
-                            project.getArtifactId());
-                    return true;
-                }
+            OutputFingerprint fingerprint = getOutputFingerprint(project, outputDirectory);
+            if (fingerprint.lastModified() > artifactLastModified) {
+                LOGGER.warn(
+                        "File '{}' is more recent than the packaged artifact for '{}', "
+                                + "please run a full `mvn package` build",
+                        relativizeOutputFile(fingerprint.newestFile()),
+                        project.getArtifactId());
             }
 
             return true;
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             LOGGER.warn(
                     "An I/O error occurred while checking if the packaged artifact is up-to-date "
                             + "against the build output directory. "
@@ -264,6 +264,53 @@ private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedAr
         }
     }
 
+    /**
+     * Returns the fingerprint of the output directory of the given project, computed once and kept until
+     * a mojo of the project is executed.
+     */
+    OutputFingerprint getOutputFingerprint(MavenProject project, Path outputDirectory) {
+        OutputFingerprint fingerprint = outputFingerprints.get(project.getId());
+        if (fingerprint == null || !fingerprint.directory().equals(outputDirectory)) {
+            // walk the directory outside of the map, so that other projects are not blocked meanwhile
+            OutputFingerprint computed = OutputFingerprint.of(outputDirectory);
+            fingerprint = outputFingerprints.merge(
+                    project.getId(),
+                    computed,
+                    (current, value) -> current.directory().equals(value.directory()) ? current : value);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * The newest file of an output directory.
+     *
+     * @param directory the output directory
+     * @param newestFile the most recently modified file, or {@code null} if the directory contains no file
+     * @param lastModified the last modified time of the newest file, in milliseconds
+     */
+    record OutputFingerprint(Path directory, Path newestFile, long lastModified) {
+        static OutputFingerprint of(Path directory) {
+            Path[] newestFile = {null};
+            long[] lastModified = {Long.MIN_VALUE};
+            try {
+                Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        long time = attrs.lastModifiedTime().toMillis();
+                        if (!attrs.isDirectory() && time > lastModified[0]) {
+                            newestFile[0] = file;
+                            lastModified[0] = time;
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new OutputFingerprint(directory, newestFile[0], lastModified[0]);
+        }
+    }
+
     private boolean hasBeenPackagedDuringThisSession(MavenProject project) {
         boolean packaged = false;
         for (String phase : getLifecycles(project)) {
@@ -324,14 +371,16 @@ private File findInProjectLocalRepository(Artifact artifact) {
      * We are interested in project success events, in which case we call
      * the {@link #installIntoProjectLocalRepository(MavenProject)} method.
      * The mojo started event is also captured to determine the lifecycle
-     * phases the project has been through.
+     * phases the project has been through, and mojo events discard the
+     * fingerprint of the project output directory.
      *
      * @param event the execution event
      */
-    private void processEvent(ExecutionEvent event) {
+    void processEvent(ExecutionEvent event) {
         MavenProject project = event.getProject();
         switch (event.getType()) {
             case MojoStarted:
+                outputFingerprints.remove(project.getId());
                 String phase = event.getMojoExecution().getLifecyclePhase();
                 if (phase != null) {
                     Deque<String> phases = getLifecycles(project);
@@ -345,6 +394,11 @@ private void processEvent(ExecutionEvent event) {
                     }
                 }
                 break;
+            case MojoSucceeded:
+            case MojoFailed:
+                // the mojo may have modified the output directory
+                outputFingerprints.remove(project.getId());
+                break;
             case ProjectSucceeded:
             case ForkedProjectSucceeded:
                 synchronized (project) {
@@ -420,25 +474,63 @@ private boolean isRegularFile(Artifact artifact) {
         return artifact.getFile() != null && artifact.getFile().isFile();
     }
 
-    private void installIntoProjectLocalRepository(Artifact artifact) {
+    void installIntoProjectLocalRepository(Artifact artifact) {
         String extension = artifact.getExtension();
         String classifier = artifact.getClassifier();
 
+        Path source = artifact.getPath();
         Path target = getArtifactPath(
                 artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(), classifier, extension);
         try {
-            LOGGER.info("Copying {} to project local repository", artifact);
+            if (isUpToDate(source, target)) {
+                LOGGER.debug("Artifact {} is up-to-date in project local repository", artifact);
+                return;
+            }
             Files.createDirectories(target.getParent());
-            Files.copy(
-                    artifact.getPath(),
-                    target,
-                    StandardCopyOption.REPLACE_EXISTING,
-                    StandardCopyOption.COPY_ATTRIBUTES);
+            if (ConfigUtils.getBoolean(
+                    session.getRepositorySession(), false, Constants.MAVEN_REPO_PROJECT_LOCAL_HARD_LINKS)) {
+                try {
+                    Files.deleteIfExists(target);
+                    createLink(target, source);
+                    LOGGER.info("Linking {} into project local repository", artifact);
+                    return;
+                } catch (IOException | UnsupportedOperationException e) {
+                    LOGGER.debug("Unable to link {} into project local repository: {}", artifact, e.toString());
+                }
+            }
+            LOGGER.info("Copying {} to project local repository", artifact);
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
         } catch (IOException e) {
             LOGGER.error("Error while copying artifact to project local repository", e);
         }
     }
 
+    /**
+     * Creates a hard link to the given file.
+     * <p>
+     * Visible for testing.
+     */
+    void createLink(Path link, Path existing) throws IOException {
+        Files.createLink(link, existing);
+    }
+
+    /**
+     * Checks whether the target is a link to the source, or a copy of it with the same size and
+     * modification time, which are preserved when copying.
+     */
+    private static boolean isUpToDate(Path source, Path target) throws IOException {
+        if (!Files.isRegularFile(target)) {
+            return false;
+        }
+        if (Files.isSameFile(source, target)) {
+            return true;
+        }
+        BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+        BasicFileAttributes targetAttributes = Files.readAttributes(target, BasicFileAttributes.class);
+        return sourceAttributes.size() == targetAttributes.size()
+                && sourceAttributes.lastModifiedTime().equals(targetAttributes.lastModifiedTime());
+    }
+
     private Path getArtifactPath(Artifact artifact) {
         String groupId = artifact.getGroupId();
         String artifactId = artifact.getArtifactId();
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs at most one load per key at a time: concurrent callers for the same key wait for the load in flight and
+ * get its result, or the exception it threw. Once a load completes, successfully or not, the next call for the key
+ * runs a new load; caches keep their results, including failures if they are meant to be remembered, in the load
+ * itself, which should therefore check the cache again first.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of loaded values
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the given load, or waits for the load in flight for the same key.
+     *
+     * @param key the key of the load
+     * @param loader the load to run if none is in flight
+     * @return the loaded value
+     * @throws E the exception thrown by the load, by this call or by the load in flight
+     */
+    public <E extends Exception> V load(K key, Loader<V, E> loader) throws E {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                // the cause was thrown by the load, which only throws E or unchecked exceptions
+                throw SingleFlight.<E>uncheckedThrow(e.getCause());
+            }
+        }
+        try {
+            V value = loader.load();
+            future.complete(value);
+            return value;
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T uncheckedThrow(Throwable t) throws T {
+        throw (T) t; // rely on vacuous cast
+    }
+
+    /**
+     * A load, which may throw a checked exception.
+     *
+     * @param <V> the type of the loaded value
+     * @param <E> the type of the checked exception
+     */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+}
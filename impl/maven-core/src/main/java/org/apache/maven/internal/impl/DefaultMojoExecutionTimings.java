@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.api.annotations.Nonnull;
+import org.apache.maven.api.di.SessionScoped;
+import org.apache.maven.api.services.MojoExecutionTimings;
+import org.eclipse.sisu.Typed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Session scoped {@link MojoExecutionTimings} backed by the {@code .mvn/timings.properties} file
+ * below the root directory. The file is loaded when the service is created and written back by
+ * {@link MojoExecutionTimingsRecorder} when the session ends.
+ */
+@Named
+@Typed
+@SessionScoped
+public class DefaultMojoExecutionTimings implements MojoExecutionTimings {
+
+    static final String TIMINGS_FILE = ".mvn/timings.properties";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Path file;
+    private final Map<Key, Duration> durations = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    @Inject
+    public DefaultMojoExecutionTimings(InternalMavenSession session) {
+        this(timingsFile(session));
+    }
+
+    DefaultMojoExecutionTimings(Path file) {
+        this.file = file;
+        load();
+    }
+
+    @Nonnull
+    @Override
+    public Optional<Duration> getDuration(@Nonnull Key key) {
+        requireNonNull(key, "key cannot be null");
+        return Optional.ofNullable(durations.get(key));
+    }
+
+    @Override
+    public void record(@Nonnull Key key, @Nonnull Duration duration) {
+        requireNonNull(key, "key cannot be null");
+        requireNonNull(duration, "duration cannot be null");
+        durations.merge(key, duration, (o, n) -> o.plus(n).dividedBy(2));
+        modified = true;
+    }
+
+    @Nonnull
+    @Override
+    public Map<Key, Duration> getDurations() {
+        return Map.copyOf(durations);
+    }
+
+    /**
+     * Writes the durations back to the timings file if they have been modified.
+     */
+    public void store() throws IOException {
+        if (file == null || !modified) {
+            return;
+        }
+        Properties props = new Properties();
+        durations.forEach((k, v) -> props.setProperty(k.toString(), Long.toString(v.toMillis())));
+        Files.createDirectories(file.getParent());
+        Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tmp)) {
+                props.store(os, "Maven mojo execution timings");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        modified = false;
+    }
+
+    private void load() {
+        if (file == null || !Files.isRegularFile(file)) {
+            return;
+        }
+        Properties props = new Properties();
+        try (InputStream is = Files.newInputStream(file)) {
+            props.load(is);
+        } catch (IOException e) {
+            logger.warn("Unable to read mojo execution timings from {}: {}", file, e.toString());
+            return;
+        }
+        for (String name : props.stringPropertyNames()) {
+            Key key = parseKey(name);
+            if (key != null) {
+                try {
+                    durations.put(key, Duration.ofMillis(Long.parseLong(props.getProperty(name))));
+                } catch (NumberFormatException e) {
+                    // ignore corrupted entries, they will be overwritten
+                }
+            }
+        }
+    }
+
+    // parse keys in the project/plugin:goal@executionId form produced by Key.toString()
+    static Key parseKey(String name) {
+        int slash = name.indexOf('/');
+        int at = name.indexOf('@', slash + 1);
+        int colon = at > 0 ? name.lastIndexOf(':', at) : -1;
+        if (slash <= 0 || at < 0 || colon <= slash) {
+            return null;
+        }
+        return new Key(
+                name.substring(0, slash),
+                name.substring(slash + 1, colon),
+                name.substring(colon + 1, at),
+                name.substring(at + 1));
+    }
+
+    private static Path timingsFile(InternalMavenSession session) {
+        Path root;
+        try {
+            root = session.getRootDirectory();
+        } catch (IllegalStateException e) {
+            root = session.getTopDirectory();
+        }
+        return root != null ? root.resolve(TIMINGS_FILE) : null;
+    }
+}
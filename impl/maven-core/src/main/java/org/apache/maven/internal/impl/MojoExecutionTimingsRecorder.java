@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.MonotonicClock;
+import org.apache.maven.api.services.MojoExecutionTimings;
+import org.apache.maven.eventspy.AbstractEventSpy;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the wall time of mojo executions into the session {@link MojoExecutionTimings}
+ * and persists them when the session ends. Recording is only enabled when either
+ * {@link Constants#MAVEN_TIMINGS} or {@link Constants#MAVEN_BUILDER_CRITICAL_PATH} is set.
+ *
+ * @since 4.0.0
+ */
+@Named
+@Singleton
+public class MojoExecutionTimingsRecorder extends AbstractEventSpy {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Map<MojoExecutionTimings.Key, Instant> starts = new ConcurrentHashMap<>();
+
+    @Override
+    public void onEvent(Object event) {
+        if (event instanceof ExecutionEvent executionEvent && isEnabled(executionEvent.getSession())) {
+            switch (executionEvent.getType()) {
+                case MojoStarted -> starts.put(key(executionEvent), MonotonicClock.now());
+                case MojoSucceeded -> {
+                    Instant start = starts.remove(key(executionEvent));
+                    if (start != null) {
+                        timings(executionEvent.getSession())
+                                .record(key(executionEvent), Duration.between(start, MonotonicClock.now()));
+                    }
+                }
+                case MojoFailed -> starts.remove(key(executionEvent));
+                case SessionEnded -> {
+                    starts.clear();
+                    if (timings(executionEvent.getSession()) instanceof DefaultMojoExecutionTimings timings) {
+                        try {
+                            timings.store();
+                        } catch (IOException e) {
+                            logger.warn("Unable to write mojo execution timings: {}", e.toString());
+                        }
+                    }
+                }
+                default -> {}
+            }
+        }
+    }
+
+    static boolean isEnabled(MavenSession session) {
+        return session != null
+                && (ConfigUtils.getBoolean(session.getRepositorySession(), false, Constants.MAVEN_TIMINGS)
+                        || ConfigUtils.getBoolean(
+                                session.getRepositorySession(), false, Constants.MAVEN_BUILDER_CRITICAL_PATH));
+    }
+
+    private static MojoExecutionTimings timings(MavenSession session) {
+        return InternalMavenSession.from(session.getSession()).getService(MojoExecutionTimings.class);
+    }
+
+    private static MojoExecutionTimings.Key key(ExecutionEvent event) {
+        return key(event.getSession(), event.getProject(), event.getMojoExecution());
+    }
+
+    /**
+     * Returns the key of the given mojo execution in the given project.
+     */
+    public static MojoExecutionTimings.Key key(MavenSession session, MavenProject project, MojoExecution execution) {
+        InternalMavenSession s = InternalMavenSession.from(session.getSession());
+        return MojoExecutionTimings.Key.of(s.getProject(project), new DefaultMojoExecution(s, execution));
+    }
+}
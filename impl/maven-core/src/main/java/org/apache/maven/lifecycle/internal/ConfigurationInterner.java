@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.xml.XmlNode;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.internal.xml.XmlNodeInterner;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
+
+/**
+ * Shares structurally identical mojo configurations using a session wide {@link XmlNodeInterner}, if enabled
+ * with {@link Constants#MAVEN_PLUGIN_CONFIGURATION_INTERN}.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+public final class ConfigurationInterner {
+
+    private ConfigurationInterner() {}
+
+    /**
+     * Returns the shared instance of the given configuration, or the configuration itself if interning is disabled.
+     *
+     * @param session the session whose pool is used
+     * @param configuration the configuration to intern, may be {@code null}
+     * @return the interned configuration
+     */
+    public static XmlNode intern(MavenSession session, XmlNode configuration) {
+        RepositorySystemSession repositorySession = session.getRepositorySession();
+        if (repositorySession != null
+                && ConfigUtils.getBoolean(repositorySession, false, Constants.MAVEN_PLUGIN_CONFIGURATION_INTERN)) {
+            XmlNodeInterner interner = (XmlNodeInterner)
+                    repositorySession.getData().computeIfAbsent(XmlNodeInterner.class, XmlNodeInterner::new);
+            return interner.intern(configuration);
+        }
+        return configuration;
+    }
+}
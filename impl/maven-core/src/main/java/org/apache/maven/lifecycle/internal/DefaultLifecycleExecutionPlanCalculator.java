@@ -200,7 +200,7 @@ public void setupMojoExecution(
         mojoExecutionConfigurator(mojoExecution)
                 .configure(project, mojoExecution, MojoExecution.Source.CLI.equals(mojoExecution.getSource()));
 
-        finalizeMojoConfiguration(mojoExecution);
+        finalizeMojoConfiguration(session, mojoExecution);
 
         calculateForkedExecutions(mojoExecution, session, project, alreadyPlannedExecutions);
     }
@@ -277,9 +277,10 @@ private Map<String, List<MojoExecution>> calculateLifecycleMappings(
      * from the configuration that are not applicable to the mojo and injects the default values for any missing
      * parameters.
      *
+     * @param session The current build session, must not be {@code null}.
      * @param mojoExecution The mojo execution whose configuration should be finalized, must not be {@code null}.
      */
-    private void finalizeMojoConfiguration(MojoExecution mojoExecution) {
+    private void finalizeMojoConfiguration(MavenSession session, MojoExecution mojoExecution) {
         MojoDescriptor mojoDescriptor = mojoExecution.getMojoDescriptor();
 
         XmlNode executionConfiguration = mojoExecution.getConfiguration() != null
@@ -331,7 +332,7 @@ private void finalizeMojoConfiguration(MojoExecution mojoExecution) {
         }
         XmlNode finalConfiguration = XmlNode.newInstance("configuration", children);
 
-        mojoExecution.setConfiguration(finalConfiguration);
+        mojoExecution.setConfiguration(ConfigurationInterner.intern(session, finalConfiguration));
     }
 
     private XmlNode getMojoConfiguration(MojoDescriptor mojoDescriptor) {
@@ -428,7 +429,7 @@ private List<MojoExecution> calculateForkedLifecycle(
         for (List<MojoExecution> forkedExecutions : lifecycleMappings.values()) {
             for (MojoExecution forkedExecution : forkedExecutions) {
                 if (!alreadyPlannedExecutions.contains(forkedExecution.getMojoDescriptor())) {
-                    finalizeMojoConfiguration(forkedExecution);
+                    finalizeMojoConfiguration(session, forkedExecution);
 
                     calculateForkedExecutions(forkedExecution, session, project, alreadyPlannedExecutions);
 
@@ -558,7 +559,7 @@ private List<MojoExecution> calculateForkedGoal(
 
         mojoExecutionConfigurator(forkedExecution).configure(project, forkedExecution, true);
 
-        finalizeMojoConfiguration(forkedExecution);
+        finalizeMojoConfiguration(session, forkedExecution);
 
         calculateForkedExecutions(forkedExecution, session, project, alreadyPlannedExecutions);
 
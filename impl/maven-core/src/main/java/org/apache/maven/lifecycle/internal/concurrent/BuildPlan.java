@@ -18,8 +18,10 @@
  */
 package org.apache.maven.lifecycle.internal.concurrent;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -28,7 +30,9 @@
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -156,6 +160,62 @@ public List<BuildStep> sortedNodes() {
         return sortedNodes;
     }
 
+    /**
+     * Recomputes the number of pending predecessors of every step which has not been started yet
+     * and hands the ones without any pending predecessor to the given consumer.
+     * This must be called whenever the graph has been modified, while no step is being released.
+     *
+     * @param ready the consumer receiving the steps that are ready to be executed
+     */
+    public void resetPending(Consumer<BuildStep> ready) {
+        for (BuildStep step : sortedNodes()) {
+            if (step.status.get() == BuildStep.CREATED) {
+                int pending = (int) step.predecessors.stream()
+                        .filter(p -> !p.released.get())
+                        .count();
+                step.pending.set(pending);
+                if (pending == 0) {
+                    ready.accept(step);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the priority of each step as the weight of the longest path starting
+     * at that step and going through its successors, so that steps on the critical
+     * path get the highest priority.
+     *
+     * @param weight the function giving the weight of a single step
+     */
+    public void computePriorities(ToLongFunction<BuildStep> weight) {
+        List<BuildStep> nodes = sortedNodes();
+        Map<BuildStep, Integer> remaining = new HashMap<>();
+        Deque<BuildStep> queue = new ArrayDeque<>();
+        for (BuildStep step : nodes) {
+            step.priority = 0;
+            remaining.put(step, step.successors.size());
+            if (step.successors.isEmpty()) {
+                queue.add(step);
+            }
+        }
+        // Walk the graph backward, starting from the steps without successors
+        while (!queue.isEmpty()) {
+            BuildStep step = queue.poll();
+            step.priority += weight.applyAsLong(step);
+            for (BuildStep pred : step.predecessors) {
+                Integer count = remaining.get(pred);
+                if (count != null) {
+                    pred.priority = Math.max(pred.priority, step.priority);
+                    remaining.put(pred, count - 1);
+                    if (count == 1) {
+                        queue.add(pred);
+                    }
+                }
+            }
+        }
+    }
+
     // Helper method to visit a node
     private static void visitNode(BuildStep node, Set<BuildStep> visited, List<BuildStep> sortedNodes) {
         if (visited.add(node)) {
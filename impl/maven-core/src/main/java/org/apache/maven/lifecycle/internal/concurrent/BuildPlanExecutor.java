@@ -27,24 +27,31 @@
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.Lifecycle;
 import org.apache.maven.api.MonotonicClock;
 import org.apache.maven.api.services.LifecycleRegistry;
 import org.apache.maven.api.services.MavenException;
+import org.apache.maven.api.services.MojoExecutionTimings;
 import org.apache.maven.api.xml.XmlNode;
 import org.apache.maven.api.xml.XmlService;
 import org.apache.maven.execution.BuildFailure;
@@ -58,6 +65,7 @@
 import org.apache.maven.impl.util.PhasingExecutor;
 import org.apache.maven.internal.MultilineMessageHelper;
 import org.apache.maven.internal.impl.DefaultLifecycleRegistry;
+import org.apache.maven.internal.impl.InternalMavenSession;
 import org.apache.maven.internal.transformation.ConsumerPomArtifactTransformer;
 import org.apache.maven.lifecycle.LifecycleExecutionException;
 import org.apache.maven.lifecycle.LifecycleNotFoundException;
@@ -65,6 +73,7 @@
 import org.apache.maven.lifecycle.MojoExecutionConfigurator;
 import org.apache.maven.lifecycle.internal.BuildThreadFactory;
 import org.apache.maven.lifecycle.internal.CompoundProjectExecutionListener;
+import org.apache.maven.lifecycle.internal.ConfigurationInterner;
 import org.apache.maven.lifecycle.internal.ExecutionEventCatapult;
 import org.apache.maven.lifecycle.internal.GoalTask;
 import org.apache.maven.lifecycle.internal.LifecycleTask;
@@ -85,6 +94,7 @@
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.util.ConfigUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -120,6 +130,8 @@
  * <ol>
  *   <li>Initial plan creation based on project dependencies and task segments</li>
  *   <li>Concurrent execution of build steps while maintaining dependency order</li>
+ *   <li>Event-driven scheduling: each step keeps a counter of pending predecessors and is pushed
+ *       onto a ready queue when it drops to zero, so dispatch cost is proportional to edges</li>
  *   <li>Dynamic replanning when necessary (e.g., for forked executions)</li>
  *   <li>Project setup, execution, and teardown phases management</li>
  * </ol>
@@ -131,6 +143,11 @@
  * </pre>
  * where degreeOfConcurrency is set via the -T command-line option.
  *
+ * <p>When {@link Constants#MAVEN_BUILDER_CRITICAL_PATH} is enabled, the ready steps are not handed to the
+ * thread pool in FIFO order: each step is weighted by the longest downstream path, computed from the mojo
+ * execution durations recorded during previous builds by the {@link MojoExecutionTimings} service, and the
+ * steps on the critical path are started first.</p>
+ *
  * <h2>Build Step States:</h2>
  * <ul>
  *   <li>CREATED: Initial state of a build step</li>
@@ -197,6 +214,9 @@ class BuildContext implements AutoCloseable {
         final PhasingExecutor executor;
         final Map<Object, Clock> clocks = new ConcurrentHashMap<>();
         final ReadWriteLock lock = new ReentrantReadWriteLock();
+        final Queue<BuildStep> ready;
+        final AtomicInteger available;
+        final BuildTimings timings;
         final int threads;
         BuildPlan plan;
 
@@ -210,6 +230,24 @@ class BuildContext implements AutoCloseable {
             session.setParallel(threads > 1);
             this.executor = new PhasingExecutor(Executors.newFixedThreadPool(threads, new BuildThreadFactory()));
 
+            boolean criticalPath = ConfigUtils.getBoolean(
+                    session.getRepositorySession(), false, Constants.MAVEN_BUILDER_CRITICAL_PATH);
+            if (criticalPath) {
+                // Only hand as many steps to the executor as there are threads, keeping the
+                // remaining ones in a queue ordered by the length of their downstream path
+                this.ready = new PriorityBlockingQueue<>(
+                        64,
+                        Comparator.comparingLong((BuildStep s) -> s.priority).reversed());
+                this.available = new AtomicInteger(threads);
+                this.timings = new BuildTimings(
+                        session,
+                        InternalMavenSession.from(session.getSession()).getService(MojoExecutionTimings.class));
+            } else {
+                this.ready = new ConcurrentLinkedQueue<>();
+                this.available = new AtomicInteger(Integer.MAX_VALUE);
+                this.timings = null;
+            }
+
             // build initial plan
             this.plan = buildInitialPlan(taskSegments);
         }
@@ -219,6 +257,9 @@ class BuildContext implements AutoCloseable {
             this.reactorContext = null;
             this.threads = 1;
             this.executor = null;
+            this.ready = new ConcurrentLinkedQueue<>();
+            this.available = new AtomicInteger(Integer.MAX_VALUE);
+            this.timings = null;
             this.plan = null;
         }
 
@@ -352,39 +393,58 @@ private void executePlan() {
             global.start();
             lock.readLock().lock();
             try {
-                // Get all build steps that are:
-                // 1. Not yet started (CREATED status)
-                // 2. Have all their prerequisites completed (predecessors EXECUTED)
+                // Schedule all build steps that:
+                // 1. Have been pushed to the ready queue (no pending predecessors left)
+                // 2. Can be given an execution slot (only limited in critical path mode)
                 // 3. Successfully transition from CREATED to SCHEDULED state
-                plan.sortedNodes().stream()
-                        .filter(step -> step.status.get() == CREATED)
-                        .filter(step -> step.predecessors.stream().allMatch(s -> s.status.get() == EXECUTED))
-                        .filter(step -> step.status.compareAndSet(CREATED, SCHEDULED))
-                        .forEach(step -> {
-                            boolean nextIsPlanning = step.successors.stream().anyMatch(st -> PLAN.equals(st.name));
-                            executor.execute(() -> {
-                                try {
-                                    executeStep(step);
-                                    if (nextIsPlanning) {
-                                        lock.writeLock().lock();
-                                        try {
-                                            plan();
-                                        } finally {
-                                            lock.writeLock().unlock();
-                                        }
-                                    }
-                                    executePlan();
-                                } catch (Exception e) {
-                                    step.status.compareAndSet(SCHEDULED, FAILED);
-                                    global.stop();
+                // The slot is given back when the queue turns out to be empty, after which the
+                // queue is checked again to not miss a step pushed concurrently.
+                while (!ready.isEmpty() && available.getAndUpdate(v -> v > 0 ? v - 1 : v) > 0) {
+                    BuildStep step = ready.poll();
+                    if (step != null && step.status.compareAndSet(CREATED, SCHEDULED)) {
+                        schedule(step, global);
+                    } else {
+                        available.incrementAndGet();
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
 
-                                    // Find and execute all pending after:* phases for this project
-                                    executeAfterPhases(step);
+        private void schedule(BuildStep step, Clock global) {
+            boolean nextIsPlanning = step.successors.stream().anyMatch(st -> PLAN.equals(st.name));
+            executor.execute(() -> {
+                try {
+                    executeStep(step);
+                    if (nextIsPlanning) {
+                        plan();
+                    }
+                    release(step);
+                } catch (Exception e) {
+                    step.status.compareAndSet(SCHEDULED, FAILED);
+                    global.stop();
 
-                                    handleBuildError(reactorContext, session, step.project, e, global);
-                                }
-                            });
-                        });
+                    // Find and execute all pending after:* phases for this project
+                    executeAfterPhases(step);
+
+                    handleBuildError(reactorContext, session, step.project, e, global);
+                } finally {
+                    available.incrementAndGet();
+                }
+                executePlan();
+            });
+        }
+
+        /**
+         * Propagates the completion of the given step to its successors, pushing the ones
+         * which have no pending predecessors left onto the ready queue.
+         * The read lock guarantees that no replanning recomputes the counters concurrently.
+         */
+        private void release(BuildStep step) {
+            lock.readLock().lock();
+            try {
+                step.release(ready::add);
             } finally {
                 lock.readLock().unlock();
             }
@@ -478,7 +538,7 @@ private void executeStep(BuildStep step) throws IOException, LifecycleExecutionE
                         clock.start();
                         executions.forEach(mojoExecution -> {
                             mojoExecutionConfigurator(mojoExecution).configure(step.project, mojoExecution, true);
-                            finalizeMojoConfiguration(mojoExecution);
+                            finalizeMojoConfiguration(session, mojoExecution);
                         });
                         mojoExecutor.execute(session, executions);
                         clock.stop();
@@ -551,7 +611,19 @@ private void plan() {
                     MavenProject project = step.project;
                     buildPlanLogger.writePlan(plan, project);
                     step.status.compareAndSet(SCHEDULED, EXECUTED);
+                    step.released.set(true);
+                }
+
+                // The graph may have been modified, so recompute the pending counters
+                // and push the steps that became ready onto the queue
+                if (timings != null) {
+                    // Priorities may change, so the queue needs to be reordered
+                    List<BuildStep> queued = new ArrayList<>(ready);
+                    ready.clear();
+                    plan.computePriorities(st -> 1 + timings.get(st));
+                    ready.addAll(queued);
                 }
+                plan.resetPending(ready::add);
 
                 checkThreadSafety(plan);
                 checkUnboundVersions(plan);
@@ -922,9 +994,10 @@ private static String gav(Plugin p) {
      * from the configuration that are not applicable to the mojo and injects the default values for any missing
      * parameters.
      *
+     * @param session The current build session, must not be {@code null}.
      * @param mojoExecution The mojo execution whose configuration should be finalized, must not be {@code null}.
      */
-    private void finalizeMojoConfiguration(MojoExecution mojoExecution) {
+    private void finalizeMojoConfiguration(MavenSession session, MojoExecution mojoExecution) {
         MojoDescriptor mojoDescriptor = mojoExecution.getMojoDescriptor();
 
         XmlNode executionConfiguration = mojoExecution.getConfiguration() != null
@@ -976,7 +1049,7 @@ private void finalizeMojoConfiguration(MojoExecution mojoExecution) {
         }
         XmlNode finalConfiguration = XmlNode.newInstance("configuration", children);
 
-        mojoExecution.setConfiguration(finalConfiguration);
+        mojoExecution.setConfiguration(ConfigurationInterner.intern(session, finalConfiguration));
     }
 
     private XmlNode getMojoConfiguration(MojoDescriptor mojoDescriptor) {
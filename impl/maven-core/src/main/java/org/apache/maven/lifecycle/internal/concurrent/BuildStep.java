@@ -27,6 +27,7 @@
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.apache.maven.api.Lifecycle;
@@ -52,6 +53,12 @@ public class BuildStep {
     final Collection<BuildStep> successors = new HashSet<>();
     final AtomicInteger status = new AtomicInteger();
     final AtomicBoolean skip = new AtomicBoolean();
+    // number of predecessors which have not been released yet
+    final AtomicInteger pending = new AtomicInteger();
+    // whether the completion of this step has been propagated to its successors
+    final AtomicBoolean released = new AtomicBoolean();
+    // length of the longest path from this step to the end of the plan, used for critical path scheduling
+    volatile long priority;
 
     public BuildStep(String name, MavenProject project, Lifecycle.Phase phase) {
         this.name = name;
@@ -107,6 +114,23 @@ public void executeBefore(BuildStep stepToExecuteAfter) {
         stepToExecuteAfter.executeAfter(this);
     }
 
+    /**
+     * Propagates the completion of this step to its successors, handing each successor
+     * whose last pending predecessor was this step to the given consumer.
+     * This is a no-op if the step has already been released.
+     *
+     * @param ready the consumer receiving the successors that became ready
+     */
+    public void release(Consumer<BuildStep> ready) {
+        if (released.compareAndSet(false, true)) {
+            for (BuildStep successor : successors) {
+                if (successor.pending.decrementAndGet() == 0) {
+                    ready.accept(successor);
+                }
+            }
+        }
+    }
+
     public Stream<MojoExecution> executions() {
         return mojos.values().stream().flatMap(m -> m.values().stream());
     }
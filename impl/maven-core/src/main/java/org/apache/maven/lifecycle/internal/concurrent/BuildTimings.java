@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.time.Duration;
+
+import org.apache.maven.api.services.MojoExecutionTimings;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.internal.impl.MojoExecutionTimingsRecorder;
+import org.apache.maven.plugin.MojoExecution;
+
+/**
+ * Durations of the build steps, computed from the mojo execution durations recorded during previous builds
+ * by the {@link MojoExecutionTimings} service, in milliseconds. They are used to weight the steps of the
+ * build plan so that the critical path can be scheduled first.
+ *
+ * <p><strong>NOTE:</strong> This class is not part of any public API and can be changed or deleted without prior notice.</p>
+ *
+ * @since 4.0.0
+ */
+public class BuildTimings {
+
+    private final MavenSession session;
+
+    private final MojoExecutionTimings timings;
+
+    BuildTimings(MavenSession session, MojoExecutionTimings timings) {
+        this.session = session;
+        this.timings = timings;
+    }
+
+    /**
+     * Returns the duration of the given step in milliseconds, which is the sum of the recorded durations
+     * of its mojo executions, or {@code 0} if unknown.
+     */
+    public long get(BuildStep step) {
+        long duration = 0;
+        for (MojoExecution execution : step.executions().toList()) {
+            duration += timings.getDuration(MojoExecutionTimingsRecorder.key(session, step.project, execution))
+                    .map(Duration::toMillis)
+                    .orElse(0L);
+        }
+        return duration;
+    }
+}
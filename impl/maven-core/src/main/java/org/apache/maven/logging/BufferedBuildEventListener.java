@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.logging;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.execution.ExecutionEvent;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers the log messages of each project and forwards them at once to the delegate when the project
+ * finishes, so that the output of projects built concurrently is not interleaved. Up to the given number
+ * of characters of each project are kept in memory, the remaining output is spooled to a temporary file.
+ * Messages that do not belong to a project being built are forwarded immediately, and the output of
+ * projects still running when the build ends is forwarded by {@link #finish(int)}, {@link #fail(Throwable)}
+ * and {@link #close()}.
+ * <p>
+ * After the output of a project has been forwarded, a progress line lists the projects still being built.
+ *
+ * @see Constants#MAVEN_BUILDER_BUFFERED_OUTPUT
+ * @since 4.0.0
+ */
+public class BufferedBuildEventListener implements BuildEventListener, AutoCloseable {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final BuildEventListener delegate;
+
+    private final long maxMemory;
+
+    private final Map<String, ProjectOutput> outputs = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+
+    private int projects;
+
+    private int finished;
+
+    public BufferedBuildEventListener(BuildEventListener delegate, long maxMemory) {
+        this.delegate = delegate;
+        this.maxMemory = maxMemory;
+    }
+
+    @Override
+    public void sessionStarted(ExecutionEvent event) {
+        synchronized (lock) {
+            projects = event.getSession().getProjects().size();
+        }
+        delegate.sessionStarted(event);
+    }
+
+    @Override
+    public void projectStarted(String projectId) {
+        outputs.putIfAbsent(projectId, new ProjectOutput());
+        delegate.projectStarted(projectId);
+    }
+
+    @Override
+    public void projectLogMessage(String projectId, String event) {
+        ProjectOutput output = projectId != null ? outputs.get(buildingProjectId(projectId)) : null;
+        if (output == null || !output.add(projectId, event)) {
+            synchronized (lock) {
+                delegate.projectLogMessage(projectId, event);
+            }
+        }
+    }
+
+    @Override
+    public void projectFinished(String projectId) {
+        ProjectOutput output = outputs.remove(projectId);
+        if (output != null) {
+            synchronized (lock) {
+                output.replay();
+                finished++;
+                List<String> building = new ArrayList<>(outputs.keySet());
+                if (!building.isEmpty()) {
+                    Collections.sort(building);
+                    logger.info(
+                            "{} projects finished, building {}",
+                            projects > 0 ? finished + "/" + projects : finished,
+                            String.join(", ", building));
+                }
+            }
+        }
+        delegate.projectFinished(projectId);
+    }
+
+    @Override
+    public void executionFailure(String projectId, boolean halted, String exception) {
+        delegate.executionFailure(projectId, halted, exception);
+    }
+
+    @Override
+    public void mojoStarted(ExecutionEvent event) {
+        delegate.mojoStarted(event);
+    }
+
+    @Override
+    public void finish(int exitCode) throws Exception {
+        replayAll();
+        delegate.finish(exitCode);
+    }
+
+    @Override
+    public void fail(Throwable t) throws Exception {
+        replayAll();
+        delegate.fail(t);
+    }
+
+    @Override
+    public void log(String msg) {
+        synchronized (lock) {
+            delegate.log(msg);
+        }
+    }
+
+    @Override
+    public void transfer(String projectId, TransferEvent e) {
+        delegate.transfer(projectId, e);
+    }
+
+    @Override
+    public void close() {
+        replayAll();
+    }
+
+    private void replayAll() {
+        synchronized (lock) {
+            for (String projectId : new ArrayList<>(outputs.keySet())) {
+                ProjectOutput output = outputs.remove(projectId);
+                if (output != null) {
+                    output.replay();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the project being built, ignoring the id of the forked project, if any.
+     */
+    private static String buildingProjectId(String projectId) {
+        int index = projectId.indexOf('/');
+        return index > 0 ? projectId.substring(0, index) : projectId;
+    }
+
+    /**
+     * The output of one project, which is kept in memory up to {@link #maxMemory} characters and then spooled
+     * to a temporary file, together with the id of the (possibly forked) project of each message.
+     */
+    private final class ProjectOutput {
+
+        private final List<String> messages = new ArrayList<>();
+
+        private long size;
+
+        private Path spoolFile;
+
+        private BufferedWriter spool;
+
+        private boolean spoolFailed;
+
+        private boolean replayed;
+
+        synchronized boolean add(String projectId, String message) {
+            if (replayed) {
+                return false;
+            }
+            if (spool == null && !spoolFailed && size + message.length() > maxMemory) {
+                startSpooling();
+            }
+            if (spool != null) {
+                try {
+                    // message boundaries and forked project ids are kept by escaping the line breaks
+                    spool.write(escape(projectId));
+                    spool.write('\n');
+                    spool.write(escape(message));
+                    spool.write('\n');
+                    return true;
+                } catch (IOException e) {
+                    // the spooled output is lost, keep the remaining output in memory
+                    closeSpool();
+                    spoolFailed = true;
+                    logger.debug("Unable to spool the output of project {}: {}", projectId, e.toString());
+                }
+            }
+            messages.add(projectId);
+            messages.add(message);
+            size += message.length();
+            return true;
+        }
+
+        private void startSpooling() {
+            try {
+                spoolFile = Files.createTempFile("maven-output-", ".log");
+                spool = Files.newBufferedWriter(spoolFile, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                closeSpool();
+                spoolFailed = true;
+                logger.debug("Unable to spool the project output, keeping it in memory: {}", e.toString());
+            }
+        }
+
+        synchronized void replay() {
+            replayed = true;
+            for (int i = 0; i < messages.size(); i += 2) {
+                delegate.projectLogMessage(messages.get(i), messages.get(i + 1));
+            }
+            messages.clear();
+            if (spoolFile != null) {
+                try {
+                    spool.close();
+                    try (BufferedReader reader = Files.newBufferedReader(spoolFile, StandardCharsets.UTF_8)) {
+                        String projectId;
+                        String message;
+                        while ((projectId = reader.readLine()) != null && (message = reader.readLine()) != null) {
+                            delegate.projectLogMessage(unescape(projectId), unescape(message));
+                        }
+                    }
+                } catch (IOException e) {
+                    delegate.log("Unable to read the spooled output of the project: " + e);
+                }
+                closeSpool();
+            }
+        }
+
+        private void closeSpool() {
+            BufferedWriter writer = spool;
+            Path file = spoolFile;
+            spool = null;
+            spoolFile = null;
+            try {
+                if (writer != null) {
+                    writer.close();
+                }
+                if (file != null) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException e) {
+                logger.debug("Unable to delete the spooled project output {}: {}", file, e.toString());
+            }
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "\\0";
+        }
+        if (value.indexOf('\\') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return value.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        if (value.equals("\\0")) {
+            return null;
+        }
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                c = value.charAt(++i);
+                c = c == 'n' ? '\n' : c == 'r' ? '\r' : c;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -30,6 +30,7 @@
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.internal.SingleFlight;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.project.MavenProject;
 import org.eclipse.aether.RepositorySystemSession;
@@ -116,6 +117,8 @@ public boolean equals(Object o) {
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
 
+    private final SingleFlight<Key, CacheRecord> loading = new SingleFlight<>();
+
     public Key createKey(
             Plugin plugin,
             DependencyFilter extensionFilter,
@@ -134,6 +137,30 @@ public CacheRecord get(Key key) throws PluginResolutionException {
         return cacheRecord;
     }
 
+    @Override
+    public CacheRecord get(Key key, PluginArtifactsSupplier supplier) throws PluginResolutionException {
+        CacheRecord cacheRecord = get(key);
+
+        if (cacheRecord != null) {
+            return cacheRecord;
+        }
+
+        // another caller may be resolving the same plugin, in which case its result is used
+        return loading.load(key, () -> {
+            // the record may have been cached since the first lookup
+            CacheRecord cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            try {
+                return put(key, supplier.load());
+            } catch (PluginResolutionException e) {
+                put(key, e);
+                throw e;
+            }
+        });
+    }
+
     public CacheRecord put(Key key, List<Artifact> pluginArtifacts) {
         Objects.requireNonNull(pluginArtifacts, "pluginArtifacts cannot be null");
 
@@ -21,15 +21,21 @@
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.io.File;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.maven.RepositoryUtils;
+import org.apache.maven.api.Constants;
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.internal.SingleFlight;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
@@ -40,9 +46,15 @@
 import org.eclipse.aether.repository.LocalRepository;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.WorkspaceRepository;
+import org.eclipse.aether.util.ConfigUtils;
 
 /**
- * Default PluginCache implementation. Assumes cached data does not change.
+ * Default PluginCache implementation. Realms are retained for the lifetime of the container, so that a resident
+ * Maven reuses them across sessions. When {@link Constants#MAVEN_PLUGIN_REALM_CACHE_MAX_SIZE} is set, which is meant
+ * for such long-lived containers, a realm is checked once per session against the size and last modified time of its
+ * artifacts, and is recreated if any of them changed, while the least recently used realms that are not used by the
+ * current session are disposed once the total size of the artifacts of the cached realms exceeds the limit. Otherwise,
+ * the artifacts of the cached realms are neither checked nor tracked.
  */
 @Named
 @Singleton
@@ -68,6 +80,11 @@ protected static class CacheKey implements Key {
 
         private final int hashCode;
 
+        // not part of the identity of the key
+        private final WeakReference<Object> session;
+
+        private final long maxSize;
+
         public CacheKey(
                 Plugin plugin,
                 ClassLoader parentRealm,
@@ -89,6 +106,8 @@ public CacheKey(
             this.parentRealm = parentRealm;
             this.foreignImports = (foreignImports != null) ? foreignImports : Collections.emptyMap();
             this.filter = dependencyFilter;
+            this.session = new WeakReference<>(session.getData());
+            this.maxSize = ConfigUtils.getLong(session, 0L, Constants.MAVEN_PLUGIN_REALM_CACHE_MAX_SIZE);
 
             int hash = 17;
             hash = hash * 31 + CacheUtils.pluginHashCode(plugin);
@@ -133,6 +152,12 @@ public boolean equals(Object o) {
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
 
+    private final SingleFlight<Key, CacheRecord> loading = new SingleFlight<>();
+
+    private final Map<Key, RealmState> states = new ConcurrentHashMap<>();
+
+    private final AtomicLong clock = new AtomicLong();
+
     public Key createKey(
             Plugin plugin,
             ClassLoader parentRealm,
@@ -144,28 +169,41 @@ public Key createKey(
     }
 
     public CacheRecord get(Key key) {
-        return cache.get(key);
+        CacheRecord record = cache.get(key);
+        if (record != null && !use(key, record)) {
+            return null;
+        }
+        return record;
     }
 
+    /**
+     * Loads the realm outside of the cache map, so that creating a realm does not block the lookup of other realms,
+     * while concurrent callers for the same key wait for the single in-flight load. Unlike the artifacts caches, which
+     * record resolution failures, failures are not cached: the realm is created again by the next call.
+     */
     @Override
     public CacheRecord get(Key key, PluginRealmSupplier supplier)
             throws PluginResolutionException, PluginContainerException {
+        CacheRecord record = get(key);
+        if (record != null) {
+            return record;
+        }
         try {
-            return cache.computeIfAbsent(key, k -> {
-                try {
-                    return supplier.load();
-                } catch (PluginResolutionException | PluginContainerException e) {
-                    throw new RuntimeException(e);
+            return loading.load(key, () -> {
+                // the realm may have been cached since the first lookup
+                CacheRecord cached = get(key);
+                if (cached == null) {
+                    cached = supplier.load();
+                    cache.put(key, cached);
+                    track(key, cached);
                 }
+                return cached;
             });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof PluginResolutionException pluginResolutionException) {
-                throw pluginResolutionException;
-            }
-            if (e.getCause() instanceof PluginContainerException pluginContainerException) {
-                throw pluginContainerException;
-            }
+        } catch (PluginResolutionException | PluginContainerException | RuntimeException e) {
             throw e;
+        } catch (Exception e) {
+            // not thrown by the supplier
+            throw new IllegalStateException(e);
         }
     }
 
@@ -180,20 +218,79 @@ public CacheRecord put(Key key, ClassRealm pluginRealm, List<Artifact> pluginArt
         CacheRecord record = new CacheRecord(pluginRealm, pluginArtifacts);
 
         cache.put(key, record);
+        track(key, record);
 
         return record;
     }
 
     public void flush() {
         for (CacheRecord record : cache.values()) {
-            ClassRealm realm = record.getRealm();
-            try {
-                realm.getWorld().disposeRealm(realm.getId());
-            } catch (NoSuchRealmException e) {
-                // ignore
-            }
+            dispose(record);
         }
         cache.clear();
+        states.clear();
+    }
+
+    /**
+     * Marks the record as used by the session of the key, checking on the first use in a session that its artifacts
+     * did not change, if the cache is bounded. A stale record is removed from the cache and disposed.
+     */
+    private boolean use(Key key, CacheRecord record) {
+        if (!(key instanceof CacheKey cacheKey) || cacheKey.maxSize <= 0) {
+            return true;
+        }
+        RealmState state = states.get(key);
+        if (state == null) {
+            return true;
+        }
+        if (state.use(cacheKey.session.get(), clock.incrementAndGet())) {
+            return true;
+        }
+        if (cache.remove(key, record)) {
+            states.remove(key, state);
+            dispose(record);
+        }
+        return false;
+    }
+
+    private void track(Key key, CacheRecord record) {
+        if (key instanceof CacheKey cacheKey && cacheKey.maxSize > 0) {
+            states.put(key, new RealmState(record.getArtifacts(), cacheKey.session.get(), clock.incrementAndGet()));
+            evict(cacheKey.session.get(), cacheKey.maxSize);
+        }
+    }
+
+    private void evict(Object session, long maxSize) {
+        synchronized (states) {
+            long size = states.values().stream().mapToLong(state -> state.size).sum();
+            if (size <= maxSize) {
+                return;
+            }
+            List<Map.Entry<Key, RealmState>> candidates = states.entrySet().stream()
+                    .filter(entry -> !entry.getValue().isUsedBy(session))
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsed))
+                    .toList();
+            for (Map.Entry<Key, RealmState> candidate : candidates) {
+                if (size <= maxSize) {
+                    break;
+                }
+                CacheRecord record = cache.remove(candidate.getKey());
+                if (record != null) {
+                    dispose(record);
+                }
+                states.remove(candidate.getKey());
+                size -= candidate.getValue().size;
+            }
+        }
+    }
+
+    private static void dispose(CacheRecord record) {
+        ClassRealm realm = record.getRealm();
+        try {
+            realm.getWorld().disposeRealm(realm.getId());
+        } catch (NoSuchRealmException e) {
+            // ignore
+        }
     }
 
     protected static int pluginHashCode(Plugin plugin) {
@@ -211,4 +308,64 @@ public void register(MavenProject project, Key key, CacheRecord record) {
     public void dispose() {
         flush();
     }
+
+    /**
+     * The artifacts of a cached realm as they were when the realm was created, and its usage.
+     */
+    private static final class RealmState {
+
+        private final List<File> files = new ArrayList<>();
+
+        private final List<Long> sizes = new ArrayList<>();
+
+        private final List<Long> timestamps = new ArrayList<>();
+
+        private final long size;
+
+        private volatile WeakReference<Object> session;
+
+        private volatile long lastUsed;
+
+        RealmState(List<Artifact> artifacts, Object session, long lastUsed) {
+            long total = 0;
+            for (Artifact artifact : artifacts) {
+                File file = artifact.getFile();
+                if (file != null) {
+                    files.add(file);
+                    sizes.add(file.length());
+                    timestamps.add(file.lastModified());
+                    total += file.length();
+                }
+            }
+            this.size = total;
+            this.session = new WeakReference<>(session);
+            this.lastUsed = lastUsed;
+        }
+
+        boolean isUsedBy(Object session) {
+            return session != null && this.session.get() == session;
+        }
+
+        boolean use(Object session, long tick) {
+            if (!isUsedBy(session) && !validate(session)) {
+                return false;
+            }
+            lastUsed = tick;
+            return true;
+        }
+
+        private synchronized boolean validate(Object session) {
+            if (isUsedBy(session)) {
+                return true;
+            }
+            for (int i = 0; i < files.size(); i++) {
+                File file = files.get(i);
+                if (file.length() != sizes.get(i) || file.lastModified() != timestamps.get(i)) {
+                    return false;
+                }
+            }
+            this.session = new WeakReference<>(session);
+            return true;
+        }
+    }
 }
@@ -78,6 +78,34 @@ Key createKey(
 
     CacheRecord get(Key key) throws PluginResolutionException;
 
+    @FunctionalInterface
+    interface PluginArtifactsSupplier {
+        List<Artifact> load() throws PluginResolutionException;
+    }
+
+    /**
+     * Returns the record cached for the given key, loading it with the given supplier if absent.
+     * A failure of the supplier is cached as well, and rethrown to all callers. Implementations
+     * should make concurrent callers for an equal key wait for a single load.
+     *
+     * @param key The cache key, must not be {@code null}.
+     * @param supplier The supplier of the plugin artifacts, must not be {@code null}.
+     * @return The cache record, never {@code null}.
+     * @throws PluginResolutionException If the plugin artifacts cannot be resolved.
+     */
+    default CacheRecord get(Key key, PluginArtifactsSupplier supplier) throws PluginResolutionException {
+        CacheRecord cr = get(key);
+        if (cr == null) {
+            try {
+                cr = put(key, supplier.load());
+            } catch (PluginResolutionException e) {
+                put(key, e);
+                throw e;
+            }
+        }
+        return cr;
+    }
+
     CacheRecord put(Key key, List<Artifact> pluginArtifacts);
 
     CacheRecord put(Key key, PluginResolutionException e);
@@ -22,9 +22,11 @@
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
@@ -203,7 +205,7 @@ public PluginDescriptor getPluginDescriptor(
 
             Artifact pluginArtifact = RepositoryUtils.toArtifact(artifact);
 
-            PluginDescriptor descriptor = extractPluginDescriptor(pluginArtifact, plugin);
+            PluginDescriptor descriptor = extractPluginDescriptor(pluginArtifact, plugin, session);
 
             boolean isBlankVersion = descriptor.getRequiredMavenVersion() == null
                     || descriptor.getRequiredMavenVersion().trim().isEmpty();
@@ -221,7 +223,8 @@ public PluginDescriptor getPluginDescriptor(
         return pluginDescriptor;
     }
 
-    private PluginDescriptor extractPluginDescriptor(Artifact pluginArtifact, Plugin plugin)
+    private PluginDescriptor extractPluginDescriptor(
+            Artifact pluginArtifact, Plugin plugin, RepositorySystemSession session)
             throws PluginDescriptorParsingException, InvalidPluginDescriptorException {
         PluginDescriptor pluginDescriptor = null;
 
@@ -229,15 +232,12 @@ private PluginDescriptor extractPluginDescriptor(Artifact pluginArtifact, Plugin
 
         try {
             if (pluginFile.isFile()) {
-                try (JarFile pluginJar = new JarFile(pluginFile, false)) {
-                    ZipEntry pluginDescriptorEntry = pluginJar.getEntry(getPluginDescriptorLocation());
-
-                    if (pluginDescriptorEntry != null) {
-                        pluginDescriptor = parsePluginDescriptor(
-                                () -> pluginJar.getInputStream(pluginDescriptorEntry),
-                                plugin,
-                                pluginFile.getAbsolutePath());
-                    }
+                byte[] descriptor =
+                        PluginDescriptorIndex.of(session).get(pluginFile.toPath(), this::readPluginDescriptor);
+
+                if (descriptor != null) {
+                    pluginDescriptor = parsePluginDescriptor(
+                            () -> new ByteArrayInputStream(descriptor), plugin, pluginFile.getAbsolutePath());
                 }
             } else {
                 File pluginXml = new File(pluginFile, getPluginDescriptorLocation());
@@ -272,6 +272,20 @@ private String getPluginDescriptorLocation() {
         return "META-INF/maven/plugin.xml";
     }
 
+    private byte[] readPluginDescriptor(Path pluginJarFile) throws IOException {
+        try (JarFile pluginJar = new JarFile(pluginJarFile.toFile(), false)) {
+            ZipEntry pluginDescriptorEntry = pluginJar.getEntry(getPluginDescriptorLocation());
+
+            if (pluginDescriptorEntry == null) {
+                return null;
+            }
+
+            try (InputStream is = pluginJar.getInputStream(pluginDescriptorEntry)) {
+                return is.readAllBytes();
+            }
+        }
+    }
+
     private PluginDescriptor parsePluginDescriptor(
             PluginDescriptorBuilder.StreamSupplier is, Plugin plugin, String descriptorLocation)
             throws PluginDescriptorParsingException {
@@ -953,27 +967,16 @@ public ExtensionRealmCache.CacheRecord setupExtensionsRealm(
         // TODO: store plugin version
 
         // resolve plugin artifacts
-        List<Artifact> artifacts;
         PluginArtifactsCache.Key cacheKey = pluginArtifactsCache.createKey(plugin, null, repositories, session);
         PluginArtifactsCache.CacheRecord recordArtifacts;
         try {
-            recordArtifacts = pluginArtifactsCache.get(cacheKey);
+            recordArtifacts =
+                    pluginArtifactsCache.get(cacheKey, () -> resolveExtensionArtifacts(plugin, repositories, session));
         } catch (PluginResolutionException e) {
             throw new PluginManagerException(plugin, e.getMessage(), e);
         }
-        if (recordArtifacts != null) {
-            artifacts = recordArtifacts.getArtifacts();
-        } else {
-            try {
-                artifacts = resolveExtensionArtifacts(plugin, repositories, session);
-                recordArtifacts = pluginArtifactsCache.put(cacheKey, artifacts);
-            } catch (PluginResolutionException e) {
-                pluginArtifactsCache.put(cacheKey, e);
-                pluginArtifactsCache.register(project, cacheKey, recordArtifacts);
-                throw new PluginManagerException(plugin, e.getMessage(), e);
-            }
-        }
         pluginArtifactsCache.register(project, cacheKey, recordArtifacts);
+        List<Artifact> artifacts = recordArtifacts.getArtifacts();
 
         // create and cache extensions realms
         final ExtensionRealmCache.Key extensionKey = extensionRealmCache.createKey(artifacts);
@@ -988,7 +991,7 @@ public ExtensionRealmCache.CacheRecord setupExtensionsRealm(
                 // ignore plugin descriptor parsing errors at this point
                 // these errors will reported during calculation of project build execution plan
                 try {
-                    pluginDescriptor = extractPluginDescriptor(artifacts.get(0), plugin);
+                    pluginDescriptor = extractPluginDescriptor(artifacts.get(0), plugin, session);
                 } catch (PluginDescriptorParsingException | InvalidPluginDescriptorException e) {
                     // ignore, see above
                 }
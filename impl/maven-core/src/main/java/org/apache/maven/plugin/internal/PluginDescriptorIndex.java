@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.apache.maven.api.Constants;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent index of the plugin descriptors contained in plugin JARs, so that the JAR of a plugin
+ * does not need to be opened again in each build. Entries are stored below
+ * {@code <local repository>/.cache/plugins}, are keyed by the location of the JAR and are used as
+ * long as the size and last modified time of the JAR match the recorded ones. JARs without
+ * a descriptor are recorded as well. The index is enabled with
+ * {@link Constants#MAVEN_PLUGIN_DESCRIPTOR_INDEX}.
+ * <p>
+ * Any failure to read or write an entry is ignored and simply causes the JAR to be read.
+ */
+class PluginDescriptorIndex {
+
+    static final String CACHE_DIRECTORY = ".cache/plugins";
+
+    private static final int MAGIC = 0x4D504401;
+
+    private static final int ABSENT = -1;
+
+    private static final PluginDescriptorIndex DISABLED = new PluginDescriptorIndex(null);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Path directory;
+
+    PluginDescriptorIndex(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the index for the given session, which is disabled unless
+     * {@link Constants#MAVEN_PLUGIN_DESCRIPTOR_INDEX} is set.
+     */
+    static PluginDescriptorIndex of(RepositorySystemSession session) {
+        if (!ConfigUtils.getBoolean(session, false, Constants.MAVEN_PLUGIN_DESCRIPTOR_INDEX)) {
+            return DISABLED;
+        }
+        return (PluginDescriptorIndex) session.getData()
+                .computeIfAbsent(
+                        PluginDescriptorIndex.class,
+                        () -> new PluginDescriptorIndex(session.getLocalRepository()
+                                .getBasedir()
+                                .toPath()
+                                .resolve(CACHE_DIRECTORY)));
+    }
+
+    /**
+     * Returns the plugin descriptor of the given JAR, either from the index or using the given reader,
+     * in which case the index entry is updated.
+     *
+     * @param jar the plugin JAR
+     * @param reader the reader used on index misses
+     * @return the content of the plugin descriptor, or {@code null} if the JAR does not contain one
+     */
+    byte[] get(Path jar, DescriptorReader reader) throws IOException {
+        if (directory == null) {
+            return reader.read(jar);
+        }
+        Path entry = entry(jar);
+        BasicFileAttributes attrs = Files.readAttributes(jar, BasicFileAttributes.class);
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        if (Files.isRegularFile(entry)) {
+            try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+                if (dis.readInt() == MAGIC && dis.readLong() == size && dis.readLong() == lastModified) {
+                    int length = dis.readInt();
+                    if (length == ABSENT) {
+                        return null;
+                    }
+                    byte[] descriptor = dis.readNBytes(length);
+                    if (descriptor.length == length) {
+                        return descriptor;
+                    }
+                }
+            } catch (IOException e) {
+                logger.debug("Ignoring invalid plugin descriptor index entry {}: {}", entry, e.toString());
+            }
+        }
+        byte[] descriptor = reader.read(jar);
+        try {
+            write(entry, size, lastModified, descriptor);
+        } catch (IOException e) {
+            logger.debug("Unable to write plugin descriptor index entry {}: {}", entry, e.toString());
+        }
+        return descriptor;
+    }
+
+    private void write(Path entry, long size, long lastModified, byte[] descriptor) throws IOException {
+        Files.createDirectories(entry.getParent());
+        Path tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                dos.writeInt(MAGIC);
+                dos.writeLong(size);
+                dos.writeLong(lastModified);
+                if (descriptor != null) {
+                    dos.writeInt(descriptor.length);
+                    dos.write(descriptor);
+                } else {
+                    dos.writeInt(ABSENT);
+                }
+            }
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private Path entry(Path jar) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(jar.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+            String name = HexFormat.of().formatHex(hash);
+            return directory.resolve(name.substring(0, 2)).resolve(name.substring(2));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the plugin descriptor from a plugin JAR.
+     */
+    @FunctionalInterface
+    interface DescriptorReader {
+        byte[] read(Path jar) throws IOException;
+    }
+}
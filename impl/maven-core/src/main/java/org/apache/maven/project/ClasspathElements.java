@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project;
+
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+/**
+ * An immutable list of classpath elements: the optional test output and output directories of a project, followed
+ * by the paths of its artifacts. The artifact paths are shared between all projects having the same dependencies,
+ * which is common in large reactors.
+ */
+final class ClasspathElements extends AbstractList<String> implements RandomAccess {
+
+    private static final Map<List<String>, WeakReference<List<String>>> SHARED = new WeakHashMap<>();
+
+    private final String testOutputDirectory;
+
+    private final String outputDirectory;
+
+    private final String[] directories;
+
+    private final List<String> artifacts;
+
+    ClasspathElements(String testOutputDirectory, String outputDirectory, List<String> artifacts) {
+        this.testOutputDirectory = testOutputDirectory;
+        this.outputDirectory = outputDirectory;
+        this.directories = Stream.of(testOutputDirectory, outputDirectory)
+                .filter(Objects::nonNull)
+                .toArray(String[]::new);
+        this.artifacts = share(artifacts);
+    }
+
+    /**
+     * Checks whether these elements were computed for the given directories, which are not tracked by the project.
+     */
+    boolean hasDirectories(String testOutputDirectory, String outputDirectory) {
+        return Objects.equals(this.testOutputDirectory, testOutputDirectory)
+                && Objects.equals(this.outputDirectory, outputDirectory);
+    }
+
+    @Override
+    public String get(int index) {
+        return index < directories.length ? directories[index] : artifacts.get(index - directories.length);
+    }
+
+    @Override
+    public int size() {
+        return directories.length + artifacts.size();
+    }
+
+    private static List<String> share(List<String> artifacts) {
+        synchronized (SHARED) {
+            WeakReference<List<String>> ref = SHARED.get(artifacts);
+            List<String> shared = ref != null ? ref.get() : null;
+            if (shared == null) {
+                shared = List.copyOf(artifacts);
+                SHARED.put(shared, new WeakReference<>(shared));
+            }
+            return shared;
+        }
+    }
+}
@@ -35,6 +35,7 @@
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -169,6 +170,9 @@ public class MavenProject implements Cloneable {
     // calculated.
     private Map<String, Artifact> artifactMap;
 
+    // calculated, see getClasspathElements
+    private volatile Map<String, ClasspathElements> classpathElements;
+
     private Model originalModel;
 
     private Map<String, Artifact> pluginArtifactMap;
@@ -516,35 +520,39 @@ private static boolean isTestPathElement(final String scope) {
     /**
      * Returns a filtered list of class path elements. This method is invoked when the caller
      * requested that all dependencies are placed on the class path, with no module path element.
+     * The list is computed once per scope and reused until the artifacts are replaced, see {@link #setArtifacts(Set)}.
      *
      * @param scopeFilter a filter returning {@code true} for the artifact scopes to accept
      * @param includeTestDir whether to include the test directory in the classpath elements
-     * @return paths of all artifacts placed on the classpath
+     * @return immutable paths of all artifacts placed on the classpath
      * @throws DependencyResolutionRequiredException if an artifact file is used, but has not been resolved
      */
-    private List<String> getClasspathElements(final Predicate<String> scopeFilter, final boolean includeTestDir)
+    private List<String> getClasspathElements(
+            final String scope, final Predicate<String> scopeFilter, final boolean includeTestDir)
             throws DependencyResolutionRequiredException {
-        final List<String> list = new ArrayList<>(getArtifacts().size() + 2);
-        if (includeTestDir) {
-            String d = getBuild().getTestOutputDirectory();
-            if (d != null) {
-                list.add(d);
-            }
-        }
-        String d = getBuild().getOutputDirectory();
-        if (d != null) {
-            list.add(d);
-        }
-        for (Artifact a : getArtifacts()) {
-            final File f = a.getFile();
-            if (f != null && scopeFilter.test(a.getScope())) {
-                final ArtifactHandler h = a.getArtifactHandler();
-                if (h.isAddedToClasspath()) {
-                    list.add(f.getPath());
+        final String testOutputDirectory = includeTestDir ? getBuild().getTestOutputDirectory() : null;
+        final String outputDirectory = getBuild().getOutputDirectory();
+        Map<String, ClasspathElements> cache = classpathElements;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            classpathElements = cache;
+        }
+        ClasspathElements elements = cache.get(scope);
+        if (elements == null || !elements.hasDirectories(testOutputDirectory, outputDirectory)) {
+            final List<String> list = new ArrayList<>();
+            for (Artifact a : getArtifacts()) {
+                final File f = a.getFile();
+                if (f != null && scopeFilter.test(a.getScope())) {
+                    final ArtifactHandler h = a.getArtifactHandler();
+                    if (h.isAddedToClasspath()) {
+                        list.add(f.getPath());
+                    }
                 }
             }
+            elements = new ClasspathElements(testOutputDirectory, outputDirectory, list);
+            cache.put(scope, elements);
         }
-        return list;
+        return elements;
     }
 
     /**
@@ -558,7 +566,7 @@ private List<String> getClasspathElements(final Predicate<String> scopeFilter, f
      */
     @Deprecated
     public List<String> getCompileClasspathElements() throws DependencyResolutionRequiredException {
-        return getClasspathElements(MavenProject::isCompilePathElement, false);
+        return getClasspathElements(Artifact.SCOPE_COMPILE, MavenProject::isCompilePathElement, false);
     }
 
     /**
@@ -572,7 +580,7 @@ public List<String> getCompileClasspathElements() throws DependencyResolutionReq
      */
     @Deprecated
     public List<String> getTestClasspathElements() throws DependencyResolutionRequiredException {
-        return getClasspathElements(MavenProject::isTestPathElement, true);
+        return getClasspathElements(Artifact.SCOPE_TEST, MavenProject::isTestPathElement, true);
     }
 
     /**
@@ -586,7 +594,7 @@ public List<String> getTestClasspathElements() throws DependencyResolutionRequir
      */
     @Deprecated
     public List<String> getRuntimeClasspathElements() throws DependencyResolutionRequiredException {
-        return getClasspathElements(MavenProject::isRuntimePathElement, false);
+        return getClasspathElements(Artifact.SCOPE_RUNTIME, MavenProject::isRuntimePathElement, false);
     }
 
     // ----------------------------------------------------------------------
@@ -860,11 +868,16 @@ public void addLicense(License license) {
         getModel().addLicense(license);
     }
 
+    /**
+     * Sets the artifacts of this project. The classpath elements derived from the artifacts are cached, so changes
+     * made in place to the artifacts or their files must be followed by a call to this method.
+     */
     public void setArtifacts(Set<Artifact> artifacts) {
         this.artifacts = artifacts;
 
-        // flush the calculated artifactMap
+        // flush the calculated artifactMap and classpath elements
         artifactMap = null;
+        classpathElements = null;
     }
 
     /**
@@ -1078,6 +1091,7 @@ public void addAttachedArtifact(Artifact artifact) throws DuplicateArtifactAttac
         } else {
             attachedArtifacts.add(artifact);
         }
+        classpathElements = null;
     }
 
     /**
@@ -1492,6 +1506,7 @@ public void setResolvedArtifacts(Set<Artifact> artifacts) {
         this.resolvedArtifacts = (artifacts != null) ? artifacts : Collections.emptySet();
         this.artifacts = null;
         this.artifactMap = null;
+        this.classpathElements = null;
     }
 
     /**
@@ -1506,6 +1521,7 @@ public void setArtifactFilter(ArtifactFilter artifactFilter) {
         this.artifactFilter = artifactFilter;
         this.artifacts = null;
         this.artifactMap = null;
+        this.classpathElements = null;
     }
 
     /**
@@ -34,6 +34,7 @@
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.internal.SingleFlight;
 import org.apache.maven.lifecycle.LifecycleExecutionException;
 import org.apache.maven.lifecycle.internal.SetWithResolutionResult;
 import org.apache.maven.project.MavenProject;
@@ -160,6 +161,7 @@ public boolean equals(Object o) {
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
     protected final Map<Key, Key> keys = new ConcurrentHashMap<>();
+    private final SingleFlight<Key, CacheRecord> loading = new SingleFlight<>();
 
     @Override
     public Key createKey(
@@ -187,6 +189,28 @@ public CacheRecord get(Key key) throws LifecycleExecutionException {
         return cacheRecord;
     }
 
+    @Override
+    public CacheRecord get(Key key, ProjectArtifactsSupplier supplier) throws LifecycleExecutionException {
+        CacheRecord cacheRecord = get(key);
+        if (cacheRecord != null) {
+            return cacheRecord;
+        }
+        // another caller may be resolving the same artifacts, in which case its result is used
+        return loading.load(key, () -> {
+            // the record may have been cached since the first lookup
+            CacheRecord cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            try {
+                return put(key, supplier.load());
+            } catch (LifecycleExecutionException e) {
+                put(key, e);
+                throw e;
+            }
+        });
+    }
+
     @Override
     public CacheRecord put(Key key, Set<Artifact> projectArtifacts) {
         Objects.requireNonNull(projectArtifacts, "projectArtifacts cannot be null");
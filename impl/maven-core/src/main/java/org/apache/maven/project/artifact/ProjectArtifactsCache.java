@@ -83,6 +83,34 @@ Key createKey(
 
     CacheRecord get(Key key) throws LifecycleExecutionException;
 
+    @FunctionalInterface
+    interface ProjectArtifactsSupplier {
+        Set<Artifact> load() throws LifecycleExecutionException;
+    }
+
+    /**
+     * Returns the record cached for the given key, loading it with the given supplier if absent.
+     * A failure of the supplier is cached as well, and rethrown to all callers. Implementations
+     * should make concurrent callers for an equal key wait for a single load.
+     *
+     * @param key The cache key, must not be {@code null}.
+     * @param supplier The supplier of the project artifacts, must not be {@code null}.
+     * @return The cache record, never {@code null}.
+     * @throws LifecycleExecutionException If the project artifacts cannot be resolved.
+     */
+    default CacheRecord get(Key key, ProjectArtifactsSupplier supplier) throws LifecycleExecutionException {
+        CacheRecord cr = get(key);
+        if (cr == null) {
+            try {
+                cr = put(key, supplier.load());
+            } catch (LifecycleExecutionException e) {
+                put(key, e);
+                throw e;
+            }
+        }
+        return cr;
+    }
+
     CacheRecord put(Key key, Set<Artifact> pluginArtifacts);
 
     CacheRecord put(Key key, LifecycleExecutionException e);
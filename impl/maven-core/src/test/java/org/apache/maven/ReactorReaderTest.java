@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactorReaderTest {
+
+    @TempDir
+    Path root;
+
+    MavenSession session;
+
+    MavenProject project;
+
+    ReactorReader reader;
+
+    @BeforeEach
+    void setUp() {
+        session = mock(MavenSession.class);
+        project = new MavenProject();
+        project.setGroupId("org.apache.maven.test");
+        project.setArtifactId("test");
+        project.setVersion("1.0");
+        reader = new ReactorReader(session);
+    }
+
+    @Test
+    void testOutputFingerprintIsCached() throws Exception {
+        Path classes = Files.createDirectories(root.resolve("classes"));
+        Path older = touch(classes.resolve("A.class"), 1_000_000L);
+
+        ReactorReader.OutputFingerprint fingerprint = reader.getOutputFingerprint(project, classes);
+        assertEquals(older, fingerprint.newestFile());
+        assertEquals(1_000_000L, fingerprint.lastModified());
+
+        touch(classes.resolve("B.class"), 2_000_000L);
+        assertSame(fingerprint, reader.getOutputFingerprint(project, classes));
+
+        Path otherClasses = Files.createDirectories(root.resolve("other-classes"));
+        ReactorReader.OutputFingerprint other = reader.getOutputFingerprint(project, otherClasses);
+        assertEquals(otherClasses, other.directory());
+        assertNull(other.newestFile());
+    }
+
+    @ParameterizedTest
+    @EnumSource(
+            value = ExecutionEvent.Type.class,
+            names = {"MojoStarted", "MojoSucceeded", "MojoFailed"})
+    void testOutputFingerprintIsDiscardedByMojoEvents(ExecutionEvent.Type type) throws Exception {
+        Path classes = Files.createDirectories(root.resolve("classes"));
+        touch(classes.resolve("A.class"), 1_000_000L);
+        ReactorReader.OutputFingerprint fingerprint = reader.getOutputFingerprint(project, classes);
+        Path newer = touch(classes.resolve("B.class"), 2_000_000L);
+
+        reader.processEvent(event(type));
+
+        ReactorReader.OutputFingerprint recomputed = reader.getOutputFingerprint(project, classes);
+        assertNotSame(fingerprint, recomputed);
+        assertEquals(newer, recomputed.newestFile());
+        assertEquals(2_000_000L, recomputed.lastModified());
+    }
+
+    @Test
+    void testInstallLinksIntoProjectLocalRepository() throws Exception {
+        Path jar = touch(root.resolve("test-1.0.jar"), 1_000_000L);
+        Path target = projectLocalRepository(true).resolve("test-1.0.jar");
+
+        reader.installIntoProjectLocalRepository(artifact(jar));
+
+        assertTrue(Files.isSameFile(jar, target));
+        // a link shares its content with the build output
+        Files.writeString(jar, "rewritten");
+        assertEquals("rewritten", Files.readString(target));
+    }
+
+    @Test
+    void testInstallCopiesWhenLinkingFails() throws Exception {
+        reader = new ReactorReader(session) {
+            @Override
+            void createLink(Path link, Path existing) throws IOException {
+                throw new FileSystemException(link.toString(), existing.toString(), "not supported");
+            }
+        };
+        Path jar = touch(root.resolve("test-1.0.jar"), 1_000_000L);
+        Path target = projectLocalRepository(true).resolve("test-1.0.jar");
+
+        reader.installIntoProjectLocalRepository(artifact(jar));
+
+        assertFalse(Files.isSameFile(jar, target));
+        assertEquals(Files.readString(jar), Files.readString(target));
+        assertEquals(Files.getLastModifiedTime(jar), Files.getLastModifiedTime(target));
+    }
+
+    @Test
+    void testInstallSkipsUpToDateCopy() throws Exception {
+        Path jar = touch(root.resolve("test-1.0.jar"), 1_000_000L);
+        Path target = projectLocalRepository(false).resolve("test-1.0.jar");
+
+        reader.installIntoProjectLocalRepository(artifact(jar));
+        assertFalse(Files.isSameFile(jar, target));
+
+        // same size and modification time: the copy is considered up-to-date
+        Files.writeString(target, "test-1.0.JAR");
+        Files.setLastModifiedTime(target, FileTime.fromMillis(1_000_000L));
+        reader.installIntoProjectLocalRepository(artifact(jar));
+        assertEquals("test-1.0.JAR", Files.readString(target));
+
+        // a different modification time triggers a new copy
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(2_000_000L));
+        reader.installIntoProjectLocalRepository(artifact(jar));
+        assertEquals("test-1.0.jar", Files.readString(target));
+    }
+
+    private Path projectLocalRepository(boolean hardLinks) {
+        MavenExecutionRequest request = mock(MavenExecutionRequest.class);
+        when(request.getRootDirectory()).thenReturn(root);
+        when(session.getRequest()).thenReturn(request);
+        RepositorySystemSession repositorySession = mock(RepositorySystemSession.class);
+        when(repositorySession.getConfigProperties())
+                .thenReturn(Map.of(Constants.MAVEN_REPO_PROJECT_LOCAL_HARD_LINKS, Boolean.toString(hardLinks)));
+        when(session.getRepositorySession()).thenReturn(repositorySession);
+        return root.resolve("target")
+                .resolve(ReactorReader.PROJECT_LOCAL_REPO)
+                .resolve("org.apache.maven.test")
+                .resolve("test")
+                .resolve("1.0");
+    }
+
+    private static Artifact artifact(Path file) {
+        return new DefaultArtifact("org.apache.maven.test:test:jar:1.0").setPath(file);
+    }
+
+    private ExecutionEvent event(ExecutionEvent.Type type) {
+        ExecutionEvent event = mock(ExecutionEvent.class);
+        when(event.getType()).thenReturn(type);
+        when(event.getProject()).thenReturn(project);
+        when(event.getMojoExecution()).thenReturn(mock(MojoExecution.class));
+        return event;
+    }
+
+    private static Path touch(Path file, long lastModified) throws Exception {
+        Files.writeString(file, file.getFileName().toString());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+        return file;
+    }
+}
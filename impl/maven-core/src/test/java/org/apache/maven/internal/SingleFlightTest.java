@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    @Test
+    void testConcurrentCallersShareTheLoad() throws Exception {
+        SingleFlight<String, String> loading = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        IOException failure = new IOException("failed");
+        AtomicReference<Throwable> waiterFailure = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                loading.load("key", () -> {
+                    loads.incrementAndGet();
+                    return "waiter";
+                });
+            } catch (Throwable t) {
+                waiterFailure.set(t);
+            }
+        });
+
+        IOException e = assertThrows(
+                IOException.class,
+                () -> loading.load("key", () -> {
+                    loads.incrementAndGet();
+                    waiter.start();
+                    // wait until the other caller waits for this load
+                    while (waiter.getState() != Thread.State.WAITING) {
+                        Thread.onSpinWait();
+                    }
+                    throw failure;
+                }));
+        waiter.join(10_000);
+
+        assertSame(failure, e);
+        assertSame(failure, waiterFailure.get());
+        assertEquals(1, loads.get());
+
+        // failures are not kept
+        assertEquals("value", loading.load("key", () -> "value"));
+    }
+}
@@ -22,10 +22,14 @@
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import org.apache.maven.api.services.ChecksumAlgorithmService;
 import org.apache.maven.impl.DefaultChecksumAlgorithmService;
@@ -36,6 +40,7 @@
 import org.eclipse.aether.internal.impl.checksum.Sha512ChecksumAlgorithmFactory;
 import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -98,4 +103,40 @@ void calculateStream() throws IOException {
         assertEquals("a94a8fe5ccb19ba61c4c0873d391e987982fbbd3", checksums.get(service.select("SHA-1")));
         assertEquals("098f6bcd4621d373cade4e832627b4f6", checksums.get(service.select("MD5")));
     }
+
+    @Test
+    void calculateAllLargeFiles(@TempDir Path tempDir) throws IOException {
+        // large enough to be checksummed in parallel, in several chunks
+        byte[] data = new byte[2 * 8 * 1024 * 1024 + 123];
+        new Random(0).nextBytes(data);
+        Path first = Files.write(tempDir.resolve("first.bin"), data);
+        Path second = Files.write(tempDir.resolve("second.bin"), Arrays.copyOf(data, data.length - 1));
+        Collection<ChecksumAlgorithmService.ChecksumAlgorithm> algorithms =
+                service.select(Arrays.asList("SHA-1", "SHA-256", "SHA-512", "MD5"));
+
+        Map<Path, Map<ChecksumAlgorithmService.ChecksumAlgorithm, String>> checksums =
+                service.calculateAll(List.of(first, second), algorithms);
+        assertEquals(service.calculate(first, algorithms), checksums.get(first));
+        assertEquals(service.calculate(second, algorithms), checksums.get(second));
+        assertEquals(4, checksums.get(first).size());
+
+        // the files are not kept open
+        Files.delete(first);
+        Files.delete(second);
+    }
+
+    @Test
+    void calculateAll(@TempDir Path tempDir) throws IOException {
+        Path test = Files.writeString(tempDir.resolve("test.txt"), "test");
+        Path empty = Files.writeString(tempDir.resolve("empty.txt"), "");
+
+        Map<Path, Map<ChecksumAlgorithmService.ChecksumAlgorithm, String>> checksums =
+                service.calculateAll(List.of(test, empty), service.select(Arrays.asList("SHA-1", "MD5")));
+        assertEquals(List.of(test, empty), List.copyOf(checksums.keySet()));
+        assertEquals(
+                "a94a8fe5ccb19ba61c4c0873d391e987982fbbd3", checksums.get(test).get(service.select("SHA-1")));
+        assertEquals("098f6bcd4621d373cade4e832627b4f6", checksums.get(test).get(service.select("MD5")));
+        assertEquals(
+                "da39a3ee5e6b4b0d3255bfef95601890afd80709", checksums.get(empty).get(service.select("SHA-1")));
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.apache.maven.api.MojoExecution;
+import org.apache.maven.api.Plugin;
+import org.apache.maven.api.Project;
+import org.apache.maven.api.services.MojoExecutionTimings.Key;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultMojoExecutionTimingsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testStoreAndLoad() throws Exception {
+        Path file = tempDir.resolve(DefaultMojoExecutionTimings.TIMINGS_FILE);
+        Key compile =
+                new Key("org.example:app", "org.apache.maven.plugins:maven-compiler-plugin", "compile", "default");
+        Key test = new Key("org.example:app", "org.apache.maven.plugins:maven-surefire-plugin", "test", "it@2");
+
+        DefaultMojoExecutionTimings timings = new DefaultMojoExecutionTimings(file);
+        timings.record(compile, Duration.ofMillis(1000));
+        timings.record(compile, Duration.ofMillis(3000));
+        timings.record(test, Duration.ofMillis(500));
+        timings.store();
+
+        DefaultMojoExecutionTimings loaded = new DefaultMojoExecutionTimings(file);
+        assertEquals(Optional.of(Duration.ofMillis(2000)), loaded.getDuration(compile));
+        assertEquals(Optional.of(Duration.ofMillis(500)), loaded.getDuration(test));
+        assertEquals(2, loaded.getDurations().size());
+    }
+
+    @Test
+    void testMissingFile() {
+        DefaultMojoExecutionTimings timings = new DefaultMojoExecutionTimings(tempDir.resolve("missing"));
+        assertFalse(timings.getDuration(new Key("g:a", "g:p", "goal", "id")).isPresent());
+    }
+
+    @Test
+    void testParseKey() {
+        Key key = new Key("g:a", "org.apache.maven.plugins:maven-jar-plugin", "jar", "default-jar");
+        assertEquals(key, DefaultMojoExecutionTimings.parseKey(key.toString()));
+        assertNull(DefaultMojoExecutionTimings.parseKey("invalid"));
+    }
+
+    @Test
+    void testKeyOfExecutionWithoutId() {
+        Project project = mock(Project.class);
+        when(project.getGroupId()).thenReturn("org.example");
+        when(project.getArtifactId()).thenReturn("app");
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getModel())
+                .thenReturn(org.apache.maven.api.model.Plugin.newBuilder()
+                        .artifactId("maven-jar-plugin")
+                        .build());
+        MojoExecution execution = mock(MojoExecution.class);
+        when(execution.getPlugin()).thenReturn(plugin);
+        when(execution.getGoal()).thenReturn("jar");
+
+        assertEquals(
+                new Key("org.example:app", "org.apache.maven.plugins:maven-jar-plugin", "jar", "default"),
+                Key.of(project, execution));
+    }
+}
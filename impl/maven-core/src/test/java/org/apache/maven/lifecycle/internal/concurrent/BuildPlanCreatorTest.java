@@ -18,7 +18,10 @@
  */
 package org.apache.maven.lifecycle.internal.concurrent;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +33,7 @@
 import org.apache.maven.project.MavenProject;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -115,6 +119,64 @@ void testAllPhase() {
         assertIsSuccessor(plan.requiredStep(c2, "after:all"), plan.requiredStep(p, "after:all"));
     }
 
+    @Test
+    void testReadyQueue() {
+        MavenProject p1 = new MavenProject();
+        p1.setCollectedProjects(List.of());
+        p1.setArtifactId("p1");
+        MavenProject p2 = new MavenProject();
+        p2.setCollectedProjects(List.of());
+        p2.setArtifactId("p2");
+        Map<MavenProject, List<MavenProject>> projects = new HashMap<>();
+        projects.put(p1, Collections.emptyList());
+        projects.put(p2, Collections.singletonList(p1));
+
+        BuildPlan plan = calculateLifecycleMappings(projects, "verify");
+
+        Deque<BuildStep> ready = new ArrayDeque<>();
+        plan.resetPending(ready::add);
+        List<BuildStep> executed = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            BuildStep step = ready.poll();
+            assertTrue(
+                    step.status.compareAndSet(BuildStep.CREATED, BuildStep.EXECUTED), "Step scheduled twice: " + step);
+            assertTrue(
+                    step.predecessors.stream().allMatch(executed::contains),
+                    "Step scheduled before its predecessors: " + step);
+            executed.add(step);
+            step.release(ready::add);
+        }
+
+        assertEquals(plan.allSteps().count(), executed.size());
+        assertTrue(executed.indexOf(plan.requiredStep(p1, "after:ready"))
+                < executed.indexOf(plan.requiredStep(p2, "before:compile")));
+    }
+
+    @Test
+    void testCriticalPath() {
+        MavenProject p1 = new MavenProject();
+        p1.setCollectedProjects(List.of());
+        p1.setArtifactId("p1");
+        MavenProject p2 = new MavenProject();
+        p2.setCollectedProjects(List.of());
+        p2.setArtifactId("p2");
+        MavenProject p3 = new MavenProject();
+        p3.setCollectedProjects(List.of());
+        p3.setArtifactId("p3");
+        Map<MavenProject, List<MavenProject>> projects = new HashMap<>();
+        projects.put(p1, Collections.emptyList());
+        projects.put(p2, Collections.singletonList(p1));
+        projects.put(p3, Collections.emptyList());
+
+        BuildPlan plan = calculateLifecycleMappings(projects, "verify");
+        plan.computePriorities(step -> "compile".equals(step.name) ? 100 : 1);
+
+        // p1 has a downstream project, so it is on the critical path
+        assertTrue(plan.requiredStep(p1, "compile").priority > plan.requiredStep(p3, "compile").priority);
+        assertTrue(plan.requiredStep(p1, "compile").priority > plan.requiredStep(p2, "compile").priority);
+        assertEquals(plan.requiredStep(p2, "compile").priority, plan.requiredStep(p3, "compile").priority);
+    }
+
     private void assertIsSuccessor(BuildStep predecessor, BuildStep successor) {
         assertTrue(
                 successor.isSuccessorOf(predecessor),
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BufferedBuildEventListenerTest {
+
+    private final List<String> messages = new ArrayList<>();
+
+    private final SimpleBuildEventListener delegate = new SimpleBuildEventListener(messages::add) {
+        @Override
+        public void projectLogMessage(String projectId, String event) {
+            messages.add(projectId + ": " + event);
+        }
+    };
+
+    @Test
+    void testOutputOfProjectsIsNotInterleaved() {
+        BufferedBuildEventListener listener = new BufferedBuildEventListener(delegate, 1024);
+        listener.projectStarted("a");
+        listener.projectStarted("b");
+        listener.projectLogMessage("a", "a1");
+        listener.projectLogMessage("b", "b1");
+        listener.projectLogMessage(null, "global");
+        listener.projectLogMessage("a/c", "a2");
+        listener.projectLogMessage("b", "b2");
+        assertEquals(List.of("null: global"), messages);
+
+        listener.projectFinished("b");
+        listener.projectLogMessage("b", "late");
+        listener.projectFinished("a");
+        assertEquals(List.of("null: global", "b: b1", "b: b2", "b: late", "a: a1", "a/c: a2"), messages);
+    }
+
+    @Test
+    void testSpooledOutputIsReplayedInOrder() {
+        BufferedBuildEventListener listener = new BufferedBuildEventListener(delegate, 4);
+        listener.projectStarted("a");
+        listener.projectLogMessage("a", "a1");
+        listener.projectLogMessage("a", "line\nbreak");
+        listener.projectLogMessage("a/f", "back\\slash");
+        listener.projectLogMessage("a", "\\0");
+        listener.projectFinished("a");
+        assertEquals(List.of("a: a1", "a: line\nbreak", "a/f: back\\slash", "a: \\0"), messages);
+    }
+
+    @Test
+    void testOutputOfUnfinishedProjectsIsReplayedOnClose() {
+        BufferedBuildEventListener listener = new BufferedBuildEventListener(delegate, 0);
+        listener.projectStarted("a");
+        listener.projectLogMessage("a", "a1");
+        assertEquals(List.of(), messages);
+
+        listener.close();
+        listener.projectLogMessage("a", "a2");
+        assertEquals(List.of("a: a1", "a: a2"), messages);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.model.Plugin;
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.DuplicateRealmException;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultPluginRealmCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ClassWorld world = new ClassWorld();
+
+    private final DefaultPluginRealmCache cache = new DefaultPluginRealmCache();
+
+    private LocalRepositoryManager localRepositoryManager;
+
+    @BeforeEach
+    void setUp() {
+        localRepositoryManager = mock(LocalRepositoryManager.class);
+        when(localRepositoryManager.getRepository()).thenReturn(new LocalRepository(tempDir.resolve("repo")));
+    }
+
+    @Test
+    void testRealmIsReusedAcrossSessionsUntilArtifactsChange() throws Exception {
+        Path jar = Files.write(tempDir.resolve("plugin.jar"), new byte[10]);
+
+        PluginRealmCache.CacheRecord record = load(newSession(100), "plugin", jar);
+        assertSame(record, cache.get(createKey(newSession(100), "plugin")));
+
+        Files.write(jar, new byte[20]);
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(0));
+        assertNull(cache.get(createKey(newSession(100), "plugin")));
+        assertNull(world.getClassRealm("plugin"));
+    }
+
+    @Test
+    void testArtifactsAreNotCheckedWhenUnbounded() throws Exception {
+        Path jar = Files.write(tempDir.resolve("plugin.jar"), new byte[10]);
+
+        PluginRealmCache.CacheRecord record = load(newSession(), "plugin", jar);
+        Files.write(jar, new byte[20]);
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(0));
+
+        assertSame(record, cache.get(createKey(newSession(), "plugin")));
+    }
+
+    @Test
+    void testLeastRecentlyUsedRealmsAreEvicted() throws Exception {
+        Path a = Files.write(tempDir.resolve("a.jar"), new byte[10]);
+        Path b = Files.write(tempDir.resolve("b.jar"), new byte[10]);
+        Path c = Files.write(tempDir.resolve("c.jar"), new byte[10]);
+
+        DefaultRepositorySystemSession first = newSession(20);
+        load(first, "a", a);
+        load(first, "b", b);
+
+        DefaultRepositorySystemSession second = newSession(20);
+        PluginRealmCache.CacheRecord recordB = cache.get(createKey(second, "b"));
+        PluginRealmCache.CacheRecord recordC = load(second, "c", c);
+
+        assertNull(cache.get(createKey(second, "a")));
+        assertNull(world.getClassRealm("a"));
+        assertSame(recordB, cache.get(createKey(second, "b")));
+        assertSame(recordC, cache.get(createKey(second, "c")));
+    }
+
+    @Test
+    void testRealmsOfCurrentSessionAreNotEvicted() throws Exception {
+        Path a = Files.write(tempDir.resolve("a.jar"), new byte[10]);
+        Path b = Files.write(tempDir.resolve("b.jar"), new byte[10]);
+
+        DefaultRepositorySystemSession session = newSession(5);
+        PluginRealmCache.CacheRecord recordA = load(session, "a", a);
+        PluginRealmCache.CacheRecord recordB = load(session, "b", b);
+
+        assertSame(recordA, cache.get(createKey(session, "a")));
+        assertSame(recordB, cache.get(createKey(session, "b")));
+        assertNotSame(recordA.getRealm(), recordB.getRealm());
+        assertNotNull(world.getClassRealm("a"));
+    }
+
+    private PluginRealmCache.CacheRecord load(DefaultRepositorySystemSession session, String artifactId, Path jar)
+            throws Exception {
+        Artifact artifact = new DefaultArtifact("g", artifactId, "1", "compile", "jar", "", null);
+        artifact.setFile(jar.toFile());
+        return cache.get(createKey(session, artifactId), () -> {
+            try {
+                return new PluginRealmCache.CacheRecord(world.newRealm(artifactId), List.of(artifact));
+            } catch (DuplicateRealmException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private PluginRealmCache.Key createKey(DefaultRepositorySystemSession session, String artifactId) {
+        Plugin plugin = new Plugin();
+        plugin.setGroupId("g");
+        plugin.setArtifactId(artifactId);
+        plugin.setVersion("1");
+        return cache.createKey(plugin, null, null, null, Collections.emptyList(), session);
+    }
+
+    private DefaultRepositorySystemSession newSession() {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(h -> false);
+        session.setLocalRepositoryManager(localRepositoryManager);
+        return session;
+    }
+
+    private DefaultRepositorySystemSession newSession(long maxSize) {
+        DefaultRepositorySystemSession session = newSession();
+        session.setConfigProperty(Constants.MAVEN_PLUGIN_REALM_CACHE_MAX_SIZE, Long.toString(maxSize));
+        return session;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.internal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PluginDescriptorIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    private final PluginDescriptorIndex.DescriptorReader reader = jar -> {
+        reads.incrementAndGet();
+        byte[] content = Files.readAllBytes(jar);
+        return content.length > 0 ? content : null;
+    };
+
+    @Test
+    void testUnchangedJarIsNotReadAgain() throws Exception {
+        Path jar = write("<plugin/>");
+        Path dir = tempDir.resolve("index");
+
+        assertArrayEquals(bytes("<plugin/>"), new PluginDescriptorIndex(dir).get(jar, reader));
+        assertArrayEquals(bytes("<plugin/>"), new PluginDescriptorIndex(dir).get(jar, reader));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testModifiedJarIsReadAgain() throws Exception {
+        Path jar = write("<plugin/>");
+        PluginDescriptorIndex index = new PluginDescriptorIndex(tempDir.resolve("index"));
+        index.get(jar, reader);
+
+        write("<plugin></plugin>");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(0));
+        assertArrayEquals(bytes("<plugin></plugin>"), index.get(jar, reader));
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void testMissingDescriptorIsRecorded() throws Exception {
+        Path jar = write("");
+        PluginDescriptorIndex index = new PluginDescriptorIndex(tempDir.resolve("index"));
+
+        assertNull(index.get(jar, reader));
+        assertNull(index.get(jar, reader));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testCorruptedEntryIsIgnored() throws Exception {
+        Path jar = write("<plugin/>");
+        Path dir = tempDir.resolve("index");
+        new PluginDescriptorIndex(dir).get(jar, reader);
+        try (var entries = Files.walk(dir)) {
+            for (Path entry : entries.filter(Files::isRegularFile).toList()) {
+                Files.write(entry, new byte[] {1, 2, 3});
+            }
+        }
+
+        assertArrayEquals(bytes("<plugin/>"), new PluginDescriptorIndex(dir).get(jar, reader));
+        assertEquals(2, reads.get());
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("plugin.jar"), content);
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
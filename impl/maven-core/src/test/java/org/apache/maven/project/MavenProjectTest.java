@@ -20,9 +20,14 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
 import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
@@ -33,6 +38,8 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MavenProjectTest extends AbstractMavenProjectTestCase {
@@ -212,6 +219,91 @@ void testAddDotFile() {
         assertEquals(1, project.getCompileSourceRoots().size());
     }
 
+    @Test
+    void testClasspathElementsFollowArtifacts() throws Exception {
+        MavenProject project = new MavenProject();
+        project.getBuild().setOutputDirectory("classes");
+        project.getBuild().setTestOutputDirectory("test-classes");
+
+        Set<Artifact> artifacts = new LinkedHashSet<>();
+        artifacts.add(newArtifact("compile-dep", Artifact.SCOPE_COMPILE));
+        artifacts.add(newArtifact("test-dep", Artifact.SCOPE_TEST));
+        project.setArtifacts(artifacts);
+
+        assertEquals(List.of("classes", "compile-dep.jar"), project.getCompileClasspathElements());
+        assertEquals(List.of("classes", "compile-dep.jar"), project.getRuntimeClasspathElements());
+        assertEquals(
+                List.of("test-classes", "classes", "compile-dep.jar", "test-dep.jar"),
+                project.getTestClasspathElements());
+
+        assertSame(project.getCompileClasspathElements(), project.getCompileClasspathElements());
+        assertThrows(UnsupportedOperationException.class, () -> project.getCompileClasspathElements()
+                .add("extra"));
+
+        artifacts.add(newArtifact("runtime-dep", Artifact.SCOPE_RUNTIME));
+        project.setArtifacts(artifacts);
+        assertEquals(List.of("classes", "compile-dep.jar", "runtime-dep.jar"), project.getRuntimeClasspathElements());
+
+        project.setArtifacts(Set.of(newArtifact("other-dep", Artifact.SCOPE_COMPILE)));
+        assertEquals(List.of("classes", "other-dep.jar"), project.getCompileClasspathElements());
+
+        project.getBuild().setOutputDirectory("other-classes");
+        assertEquals(List.of("other-classes", "other-dep.jar"), project.getCompileClasspathElements());
+    }
+
+    @Test
+    void testClasspathElementsAreSharedBetweenProjects() throws Exception {
+        MavenProject first = new MavenProject();
+        first.getBuild().setOutputDirectory("first");
+        first.setArtifacts(Set.of(newArtifact("dep", Artifact.SCOPE_COMPILE)));
+        MavenProject second = new MavenProject();
+        second.getBuild().setOutputDirectory("second");
+        second.setArtifacts(Set.of(newArtifact("dep", Artifact.SCOPE_COMPILE)));
+
+        List<String> firstElements = first.getCompileClasspathElements();
+        List<String> secondElements = second.getCompileClasspathElements();
+        assertEquals(List.of("first", "dep.jar"), firstElements);
+        assertEquals(List.of("second", "dep.jar"), secondElements);
+        assertSame(firstElements.get(1), secondElements.get(1));
+    }
+
+    @Test
+    void testClasspathElementsFollowArtifactChanges() throws Exception {
+        MavenProject project = new MavenProject();
+        project.getBuild().setOutputDirectory("classes");
+
+        Artifact dependency = newArtifact("dep", Artifact.SCOPE_COMPILE);
+        Artifact other = newArtifact("other", Artifact.SCOPE_COMPILE);
+        Set<Artifact> artifacts = new LinkedHashSet<>(List.of(dependency, other));
+        project.setArtifacts(artifacts);
+        assertEquals(List.of("classes", "dep.jar", "other.jar"), project.getCompileClasspathElements());
+
+        // files of shared artifacts are replaced in place, then the artifacts are set again
+        File classes = new File("target/dep-classes");
+        dependency.setFile(classes);
+        project.setResolvedArtifacts(artifacts);
+        project.setArtifactFilter(artifact -> true);
+        assertEquals(List.of("classes", classes.getPath(), "other.jar"), project.getCompileClasspathElements());
+
+        dependency.setScope(Artifact.SCOPE_TEST);
+        project.setArtifacts(artifacts);
+        assertEquals(List.of("classes", "other.jar"), project.getCompileClasspathElements());
+
+        // an artifact replaced by another one without changing the size of the set
+        artifacts.remove(other);
+        artifacts.add(newArtifact("replacement", Artifact.SCOPE_COMPILE));
+        project.setArtifacts(artifacts);
+        assertEquals(List.of("classes", "replacement.jar"), project.getCompileClasspathElements());
+    }
+
+    private static Artifact newArtifact(String artifactId, String scope) {
+        DefaultArtifactHandler handler = new DefaultArtifactHandler("jar");
+        handler.setAddedToClasspath(true);
+        Artifact artifact = new DefaultArtifact("g", artifactId, "1.0", scope, "jar", null, handler);
+        artifact.setFile(new File(artifactId + ".jar"));
+        return artifact;
+    }
+
     private void assertNoNulls(List<String> elements) {
         assertFalse(elements.contains(null));
     }
@@ -18,16 +18,28 @@
  */
 package org.apache.maven.project.artifact;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.lifecycle.LifecycleExecutionException;
 import org.apache.maven.lifecycle.internal.SetWithResolutionResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DefaultProjectArtifactsCacheTest {
 
@@ -68,4 +80,61 @@ void testProjectDependencyOrder() throws Exception {
                 reversedArtifacts.toArray(new Artifact[0]),
                 cache.get(project2).getArtifacts().toArray(new Artifact[0]));
     }
+
+    @Test
+    void testConcurrentLoadsOfSameKey() throws Exception {
+        ProjectArtifactsCache.Key key = new ProjectArtifactsCache.Key() {};
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ProjectArtifactsCache.CacheRecord>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> cache.get(key, () -> {
+                    loads.incrementAndGet();
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return new SetWithResolutionResult(null, new LinkedHashSet<>());
+                })));
+            }
+            started.await(10, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            release.countDown();
+
+            ProjectArtifactsCache.CacheRecord record = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<ProjectArtifactsCache.CacheRecord> future : futures) {
+                assertSame(record, future.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLoadFailureIsCached() throws Exception {
+        ProjectArtifactsCache.Key key = new ProjectArtifactsCache.Key() {};
+        LifecycleExecutionException failure = new LifecycleExecutionException("failed");
+
+        assertSame(
+                failure,
+                assertThrows(
+                        LifecycleExecutionException.class,
+                        () -> cache.get(key, () -> {
+                            throw failure;
+                        })));
+        assertSame(
+                failure,
+                assertThrows(
+                        LifecycleExecutionException.class,
+                        () -> cache.get(key, () -> {
+                            throw new IllegalStateException("should not be called");
+                        })));
+    }
 }
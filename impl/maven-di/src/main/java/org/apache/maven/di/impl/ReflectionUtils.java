@@ -32,8 +32,10 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -46,6 +48,7 @@
 import org.apache.maven.api.di.Priority;
 import org.apache.maven.api.di.Qualifier;
 import org.apache.maven.di.Key;
+import org.apache.maven.di.tool.DiIndexProcessor;
 
 import static java.util.stream.Collectors.toList;
 
@@ -138,17 +141,126 @@ public static <T extends AnnotatedElement & Member> List<T> getAnnotatedElements
     }
 
     public static <T> @Nullable Binding<T> generateImplicitBinding(Key<T> key) {
-        Binding<T> binding = generateConstructorBinding(key);
+        Binding<T> binding = generateFactoryBinding(key);
+        if (binding == null) {
+            binding = generateConstructorBinding(key);
+            if (binding != null) {
+                binding = binding.initializeWith(generateInjectingInitializer(key));
+            }
+        }
         if (binding != null) {
             Annotation scope = scopeOf(key.getRawType());
             if (scope != null) {
                 binding = binding.scope(scope);
             }
-            binding = binding.initializeWith(generateInjectingInitializer(key));
         }
         return binding;
     }
 
+    /**
+     * Generates a binding using the factory generated by the {@link DiIndexProcessor} for the given class,
+     * or returns {@code null} if there is no such factory. The factory creates and injects instances
+     * using direct calls, the arguments being resolved in the order documented by the processor.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @Nullable Binding<T> generateFactoryBinding(Key<T> key) {
+        Class<T> cls = key.getRawType();
+        Object factory;
+        try {
+            String name = cls.getName().replace('$', '_') + DiIndexProcessor.FACTORY_SUFFIX;
+            factory = Class.forName(name, true, cls.getClassLoader())
+                    .getConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+        if (!(factory instanceof Function<?, ?> && factory instanceof BiConsumer<?, ?>)) {
+            return null;
+        }
+        Function<Object[], T> constructor = (Function<Object[], T>) factory;
+        BiConsumer<T, Object[]> injector = (BiConsumer<T, Object[]>) factory;
+
+        Constructor<?>[] constructors = cls.getDeclaredConstructors();
+        List<Constructor<?>> injectConstructors = Stream.of(constructors)
+                .filter(c -> c.isAnnotationPresent(Inject.class))
+                .toList();
+        Constructor<?> declaredConstructor = injectConstructors.size() == 1
+                ? injectConstructors.get(0)
+                : injectConstructors.isEmpty() && constructors.length == 1 ? constructors[0] : null;
+        if (declaredConstructor == null) {
+            return null;
+        }
+
+        Binding<T> binding = Binding.to(
+                key,
+                args -> {
+                    try {
+                        return constructor.apply(args);
+                    } catch (RuntimeException e) {
+                        throw new DIException(
+                                "Failed to call constructor " + declaredConstructor + " to provide requested key "
+                                        + key,
+                                e);
+                    }
+                },
+                toArgDependencies(key.getType(), declaredConstructor));
+
+        List<Dependency<?>> dependencies = new ArrayList<>();
+        for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+            Stream.of(c.getDeclaredFields())
+                    .filter(field -> field.isAnnotationPresent(Inject.class))
+                    .sorted(Comparator.comparing(Field::getName))
+                    .forEach(field -> dependencies.add(new Dependency<>(
+                            keyOf(key.getType(), field.getGenericType(), field),
+                            field.isAnnotationPresent(Nullable.class))));
+        }
+        for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+            Stream.of(c.getDeclaredMethods())
+                    .filter(method -> method.isAnnotationPresent(Inject.class)
+                            && !method.isSynthetic()
+                            && !Modifier.isStatic(method.getModifiers()))
+                    .sorted(Comparator.comparing(Method::getName))
+                    .forEach(method -> dependencies.addAll(Arrays.asList(toArgDependencies(key.getType(), method))));
+        }
+        if (!dependencies.isEmpty()) {
+            binding = binding.initializeWith(new BindingInitializer<T>(new HashSet<>(dependencies)) {
+                @Override
+                public Consumer<T> compile(Function<Dependency<?>, Supplier<?>> compiler) {
+                    // the dependencies are compiled once, on first use, as compiling them
+                    // eagerly would not terminate on cyclic dependencies
+                    return new Consumer<T>() {
+                        private volatile Supplier<?>[] suppliers;
+
+                        @Override
+                        public void accept(T instance) {
+                            Supplier<?>[] s = suppliers;
+                            if (s == null) {
+                                s = dependencies.stream().map(compiler).toArray(Supplier<?>[]::new);
+                                suppliers = s;
+                            }
+                            Object[] args = new Object[s.length];
+                            for (int i = 0; i < s.length; i++) {
+                                args[i] = s[i].get();
+                            }
+                            try {
+                                injector.accept(instance, args);
+                            } catch (RuntimeException e) {
+                                throw new DIException("Failed to inject members of " + instance, e);
+                            }
+                        }
+                    };
+                }
+            });
+        }
+
+        Priority priority = cls.getAnnotation(Priority.class);
+        if (priority != null) {
+            binding = binding.prioritize(priority.value());
+        }
+
+        return binding.withKey(key);
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> @Nullable Binding<T> generateConstructorBinding(Key<T> key) {
         Class<?> cls = key.getRawType();
@@ -333,6 +333,69 @@ static class Another {}
         static class Third {}
     }
 
+    @Test
+    void testGeneratedFactory() {
+        assertNotNull(ReflectionUtils.generateFactoryBinding(Key.of(GeneratedFactoryContainer.MyMojo.class)));
+        assertNull(ReflectionUtils.generateFactoryBinding(Key.of(GeneratedFactoryContainer.PrivateMojo.class)));
+
+        Injector injector = Injector.create().bindImplicit(GeneratedFactoryContainer.class);
+        GeneratedFactoryContainer.MyMojo mojo = injector.getInstance(GeneratedFactoryContainer.MyMojo.class);
+        assertInstanceOf(GeneratedFactoryContainer.FooService.class, mojo.constructorService);
+        assertInstanceOf(GeneratedFactoryContainer.BarService.class, mojo.fieldService);
+        assertInstanceOf(GeneratedFactoryContainer.FooService.class, mojo.baseService);
+        assertInstanceOf(GeneratedFactoryContainer.BarService.class, mojo.methodService);
+        assertNotNull(injector.getInstance(GeneratedFactoryContainer.PrivateMojo.class)
+                .service());
+    }
+
+    static class GeneratedFactoryContainer {
+        interface MyService {}
+
+        @Named("foo")
+        static class FooService implements MyService {}
+
+        @Named("bar")
+        static class BarService implements MyService {}
+
+        abstract static class BaseMojo {
+            @Inject
+            @Named("foo")
+            MyService baseService;
+        }
+
+        @Named
+        static class MyMojo extends BaseMojo {
+            final MyService constructorService;
+
+            @Inject
+            @Named("bar")
+            MyService fieldService;
+
+            MyService methodService;
+
+            @Inject
+            MyMojo(@Named("foo") MyService constructorService) {
+                this.constructorService = constructorService;
+            }
+
+            @Inject
+            void setMethodService(@Named("bar") MyService methodService) {
+                this.methodService = methodService;
+            }
+        }
+
+        @Named
+        static class PrivateMojo {
+            @Inject
+            @Named("foo")
+            private MyService service;
+
+            MyService service() {
+                return service;
+            }
+        }
+    }
+
     @Test
     void testNullableOnField() {
         Injector injector = Injector.create().bindImplicit(NullableOnField.class);
@@ -22,15 +22,25 @@
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Collectors;
 
 import org.apache.maven.api.di.Inject;
@@ -43,9 +53,17 @@
 
 import static org.apache.maven.impl.ImplUtils.nonNull;
 
+/**
+ * Default {@link ChecksumAlgorithmService}. {@link #calculateAll(Collection, Collection)} checksums the files
+ * concurrently on a pool bounded by the number of processors, which is created for the call. Files of at least
+ * {@value #PARALLEL_THRESHOLD} bytes are then read in chunks into a single direct buffer, and when several
+ * algorithms are requested each chunk is fed to the calculators in parallel.
+ */
 @Named
 @Singleton
 public class DefaultChecksumAlgorithmService implements ChecksumAlgorithmService {
+    static final int PARALLEL_THRESHOLD = 8 * 1024 * 1024;
+
     private final ChecksumAlgorithmFactorySelector checksumAlgorithmFactorySelector;
 
     @Inject
@@ -120,6 +138,78 @@ public Map<ChecksumAlgorithm, String> calculate(Path file, Collection<ChecksumAl
         }
     }
 
+    @Override
+    public Map<Path, Map<ChecksumAlgorithm, String>> calculateAll(
+            Collection<Path> files, Collection<ChecksumAlgorithm> algorithms) throws IOException {
+        nonNull(files, "files");
+        nonNull(algorithms, "algorithms");
+        List<Path> paths = new ArrayList<>(files);
+        int threads =
+                Math.min(Runtime.getRuntime().availableProcessors() - 1, Math.max(paths.size(), algorithms.size()) - 1);
+        if (threads < 1) {
+            LinkedHashMap<Path, Map<ChecksumAlgorithm, String>> result = new LinkedHashMap<>();
+            for (Path path : paths) {
+                result.put(path, calculate(path, algorithms));
+            }
+            return result;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "mvn-checksum");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Map<ChecksumAlgorithm, String>> checksums = invokeAll(
+                    executor,
+                    paths.stream()
+                            .map(file -> (Callable<Map<ChecksumAlgorithm, String>>)
+                                    () -> calculate(file, algorithms, executor))
+                            .toList());
+            LinkedHashMap<Path, Map<ChecksumAlgorithm, String>> result = new LinkedHashMap<>();
+            for (int i = 0; i < paths.size(); i++) {
+                result.put(paths.get(i), checksums.get(i));
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Calculates the checksums of a file, feeding each chunk of a large file to the calculators in parallel.
+     */
+    private Map<ChecksumAlgorithm, String> calculate(
+            Path file, Collection<ChecksumAlgorithm> algorithms, Executor executor) throws IOException {
+        if (algorithms.size() < 2 || Files.size(file) < PARALLEL_THRESHOLD) {
+            return calculate(file, algorithms);
+        }
+        LinkedHashMap<ChecksumAlgorithm, ChecksumCalculator> algMap = new LinkedHashMap<>();
+        algorithms.forEach(f -> algMap.put(f, f.getCalculator()));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(PARALLEL_THRESHOLD);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (boolean eof = false; !eof; ) {
+                while (buffer.hasRemaining() && !eof) {
+                    eof = channel.read(buffer) < 0;
+                }
+                buffer.flip();
+                if (buffer.hasRemaining()) {
+                    invokeAll(
+                            executor,
+                            algMap.values().stream()
+                                    .map(calculator -> (Callable<Void>) () -> {
+                                        calculator.update(buffer.duplicate());
+                                        return null;
+                                    })
+                                    .toList());
+                }
+                buffer.clear();
+            }
+        }
+        LinkedHashMap<ChecksumAlgorithm, String> result = new LinkedHashMap<>();
+        algMap.forEach((k, v) -> result.put(k, v.checksum()));
+        return result;
+    }
+
     @Override
     public Map<ChecksumAlgorithm, String> calculate(InputStream stream, Collection<ChecksumAlgorithm> algorithms)
             throws IOException {
@@ -142,6 +232,40 @@ public Map<ChecksumAlgorithm, String> calculate(InputStream stream, Collection<C
         return result;
     }
 
+    /**
+     * Runs the tasks concurrently and returns their results in order. The calling thread runs the tasks which
+     * have not been started yet by the executor, so that tasks may themselves call this method without starving
+     * the executor.
+     */
+    private static <T> List<T> invokeAll(Executor executor, List<Callable<T>> tasks) throws IOException {
+        List<FutureTask<T>> futures = tasks.stream().map(FutureTask::new).toList();
+        for (int i = 1; i < futures.size(); i++) {
+            executor.execute(futures.get(i));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        for (FutureTask<T> future : futures) {
+            future.run();
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while calculating checksums");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        return results;
+    }
+
     private static class DefaultChecksumAlgorithm implements ChecksumAlgorithm {
         private final ChecksumAlgorithmFactory factory;
 
@@ -19,11 +19,14 @@
 package org.apache.maven.impl;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 
 import org.apache.maven.api.services.Transport;
@@ -33,119 +36,159 @@
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * {@link Transport} backed by a resolver {@link Transporter}. Byte and string transfers are kept in memory,
+ * while streams larger than the memory threshold are spooled to a temporary file.
+ */
 public class DefaultTransport implements Transport {
+    static final int DEFAULT_MEMORY_THRESHOLD = 1024 * 1024;
+
     private final URI baseURI;
     private final Transporter transporter;
+    private final int memoryThreshold;
 
     public DefaultTransport(URI baseURI, Transporter transporter) {
+        this(baseURI, transporter, DEFAULT_MEMORY_THRESHOLD);
+    }
+
+    public DefaultTransport(URI baseURI, Transporter transporter, int memoryThreshold) {
         this.baseURI = requireNonNull(baseURI);
         this.transporter = requireNonNull(transporter);
+        this.memoryThreshold = Math.max(0, memoryThreshold);
     }
 
     @Override
     public boolean get(URI relativeSource, Path target) {
         requireNonNull(relativeSource, "relativeSource is null");
         requireNonNull(target, "target is null");
-        if (relativeSource.isAbsolute()) {
-            throw new IllegalArgumentException("Supplied URI is not relative");
-        }
-        URI source = baseURI.resolve(relativeSource);
-        if (!source.toASCIIString().startsWith(baseURI.toASCIIString())) {
-            throw new IllegalArgumentException("Supplied relative URI escapes baseUrl");
-        }
-        GetTask getTask = new GetTask(source);
+        GetTask getTask = new GetTask(resolve(relativeSource));
         getTask.setDataPath(target);
-        try {
-            transporter.get(getTask);
-            return true;
-        } catch (Exception e) {
-            if (Transporter.ERROR_NOT_FOUND != transporter.classify(e)) {
-                throw new RuntimeException(e);
-            }
-            return false;
-        }
+        return get(getTask);
     }
 
     @Override
     public Optional<byte[]> getBytes(URI relativeSource) {
+        requireNonNull(relativeSource, "relativeSource is null");
+        GetTask getTask = new GetTask(resolve(relativeSource));
+        return get(getTask) ? Optional.of(getTask.getDataBytes()) : Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getString(URI relativeSource, Charset charset) {
+        requireNonNull(charset, "charset is null");
+        Optional<byte[]> data = getBytes(relativeSource);
+        return data.map(bytes -> new String(bytes, charset));
+    }
+
+    @Override
+    public Optional<InputStream> getStream(URI relativeSource) {
+        requireNonNull(relativeSource, "relativeSource is null");
         try {
-            Path tempPath = null;
+            Path tempPath = Files.createTempFile("transport-get", "tmp");
             try {
-                tempPath = Files.createTempFile("transport-get", "tmp");
                 if (get(relativeSource, tempPath)) {
-                    // TODO: check file size and prevent OOM?
-                    return Optional.of(Files.readAllBytes(tempPath));
+                    // the file is removed once the caller closes the stream
+                    return Optional.of(Files.newInputStream(tempPath, StandardOpenOption.DELETE_ON_CLOSE));
                 }
+                Files.deleteIfExists(tempPath);
                 return Optional.empty();
-            } finally {
-                if (tempPath != null) {
-                    Files.deleteIfExists(tempPath);
-                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tempPath);
+                throw e;
             }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    @Override
-    public Optional<String> getString(URI relativeSource, Charset charset) {
-        requireNonNull(charset, "charset is null");
-        Optional<byte[]> data = getBytes(relativeSource);
-        return data.map(bytes -> new String(bytes, charset));
-    }
-
     @Override
     public void put(Path source, URI relativeTarget) {
         requireNonNull(source, "source is null");
         requireNonNull(relativeTarget, "relativeTarget is null");
-        if (Files.isRegularFile(source)) {
+        if (!Files.isRegularFile(source)) {
             throw new IllegalArgumentException("source file does not exist or is not a file");
         }
-        if (relativeTarget.isAbsolute()) {
-            throw new IllegalArgumentException("Supplied URI is not relative");
-        }
-        URI target = baseURI.resolve(relativeTarget);
-        if (!target.toASCIIString().startsWith(baseURI.toASCIIString())) {
-            throw new IllegalArgumentException("Supplied relative URI escapes baseUrl");
-        }
-
-        PutTask putTask = new PutTask(target);
+        PutTask putTask = new PutTask(resolve(relativeTarget));
         putTask.setDataPath(source);
-        try {
-            transporter.put(putTask);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        put(putTask);
     }
 
     @Override
     public void putBytes(byte[] source, URI relativeTarget) {
         requireNonNull(source, "source is null");
+        requireNonNull(relativeTarget, "relativeTarget is null");
+        PutTask putTask = new PutTask(resolve(relativeTarget));
+        putTask.setDataBytes(source);
+        put(putTask);
+    }
+
+    @Override
+    public void putString(String source, Charset charset, URI relativeTarget) {
+        requireNonNull(source, "source string is null");
+        requireNonNull(charset, "charset is null");
+        putBytes(source.getBytes(charset), relativeTarget);
+    }
+
+    @Override
+    public void putStream(InputStream source, URI relativeTarget) {
+        requireNonNull(source, "source is null");
+        requireNonNull(relativeTarget, "relativeTarget is null");
         try {
-            Path tempPath = null;
+            byte[] head = source.readNBytes(memoryThreshold);
+            int next = head.length < memoryThreshold ? -1 : source.read();
+            if (next < 0) {
+                putBytes(head, relativeTarget);
+                return;
+            }
+            Path tempPath = Files.createTempFile("transport-put", "tmp");
             try {
-                tempPath = Files.createTempFile("transport-get", "tmp");
-                Files.write(tempPath, source);
+                try (OutputStream os = Files.newOutputStream(tempPath)) {
+                    os.write(head);
+                    os.write(next);
+                    source.transferTo(os);
+                }
                 put(tempPath, relativeTarget);
             } finally {
-                if (tempPath != null) {
-                    Files.deleteIfExists(tempPath);
-                }
+                Files.deleteIfExists(tempPath);
             }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    @Override
-    public void putString(String source, Charset charset, URI relativeTarget) {
-        requireNonNull(source, "source string is null");
-        requireNonNull(charset, "charset is null");
-        putBytes(source.getBytes(charset), relativeTarget);
-    }
-
     @Override
     public void close() {
         transporter.close();
     }
+
+    private URI resolve(URI relative) {
+        if (relative.isAbsolute()) {
+            throw new IllegalArgumentException("Supplied URI is not relative");
+        }
+        URI uri = baseURI.resolve(relative);
+        if (!uri.toASCIIString().startsWith(baseURI.toASCIIString())) {
+            throw new IllegalArgumentException("Supplied relative URI escapes baseUrl");
+        }
+        return uri;
+    }
+
+    private boolean get(GetTask getTask) {
+        try {
+            transporter.get(getTask);
+            return true;
+        } catch (Exception e) {
+            if (Transporter.ERROR_NOT_FOUND != transporter.classify(e)) {
+                throw new RuntimeException(e);
+            }
+            return false;
+        }
+    }
+
+    private void put(PutTask putTask) {
+        try {
+            transporter.put(putTask);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -21,6 +21,7 @@
 import java.net.URI;
 import java.net.URISyntaxException;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.RemoteRepository;
 import org.apache.maven.api.Session;
 import org.apache.maven.api.di.Inject;
@@ -29,8 +30,10 @@
 import org.apache.maven.api.services.Transport;
 import org.apache.maven.api.services.TransportProvider;
 import org.apache.maven.api.services.TransportProviderException;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.spi.connector.transport.TransporterProvider;
 import org.eclipse.aether.transfer.NoTransporterException;
+import org.eclipse.aether.util.ConfigUtils;
 
 import static java.util.Objects.requireNonNull;
 
@@ -48,11 +51,16 @@ public DefaultTransportProvider(TransporterProvider transporterProvider) {
     public Transport transport(Session session, RemoteRepository repository) {
         try {
             URI baseURI = new URI(repository.getUrl());
+            RepositorySystemSession repositorySession =
+                    InternalSession.from(session).getSession();
             return new DefaultTransport(
                     baseURI,
                     transporterProvider.newTransporter(
-                            InternalSession.from(session).getSession(),
-                            ((DefaultRemoteRepository) repository).getRepository()));
+                            repositorySession, ((DefaultRemoteRepository) repository).getRepository()),
+                    ConfigUtils.getInteger(
+                            repositorySession,
+                            DefaultTransport.DEFAULT_MEMORY_THRESHOLD,
+                            Constants.MAVEN_TRANSPORT_MEMORY_THRESHOLD));
         } catch (URISyntaxException e) {
             throw new TransportProviderException("Remote repository URL invalid", e);
         } catch (NoTransporterException e) {
@@ -19,9 +19,14 @@
 package org.apache.maven.impl.cache;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 
 import org.apache.maven.api.cache.BatchRequestException;
@@ -43,6 +48,13 @@
  */
 public abstract class AbstractRequestCache implements RequestCache {
 
+    /**
+     * The cached suppliers claimed by a batch which has not been executed yet, mapped to the future completed
+     * with their result. Concurrent batches wait for the claiming batch instead of executing the same requests
+     * again, whichever batch created the cached supplier.
+     */
+    private final Map<CachingSupplier<?, ?>, CompletableFuture<Object>> pending = new ConcurrentHashMap<>();
+
     /**
      * Executes and optionally caches a single request.
      * <p>
@@ -82,78 +94,179 @@ public <REQ extends Request<?>, REP extends Result<REQ>> REP request(REQ req, Fu
      * @throws BatchRequestException if any request in the batch fails
      */
     @Override
-    @SuppressWarnings("unchecked")
     public <REQ extends Request<?>, REP extends Result<REQ>> List<REP> requests(
             List<REQ> reqs, Function<List<REQ>, List<REP>> supplier) {
-        final Map<REQ, Object> nonCachedResults = new HashMap<>();
-        List<RequestResult<REQ, REP>> allResults = new ArrayList<>(reqs.size());
+        Batch<REQ, REP> batch = new Batch<>(reqs);
+        batch.execute(supplier);
+        return batch.collect();
+    }
 
-        Function<REQ, REP> individualSupplier = req -> {
-            synchronized (nonCachedResults) {
-                while (!nonCachedResults.containsKey(req)) {
-                    try {
-                        nonCachedResults.wait();
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException(e);
-                    }
-                }
-                Object val = nonCachedResults.get(req);
-                if (val instanceof CachingSupplier.AltRes altRes) {
-                    uncheckedThrow(altRes.throwable);
-                }
-                return (REP) val;
-            }
-        };
-
-        List<CachingSupplier<REQ, REP>> suppliers = new ArrayList<>(reqs.size());
-        List<REQ> nonCached = new ArrayList<>();
-        for (REQ req : reqs) {
-            CachingSupplier<REQ, REP> cs = doCache(req, individualSupplier);
-            suppliers.add(cs);
-            if (cs.getValue() == null) {
-                nonCached.add(req);
+    /**
+     * Asynchronously executes and optionally caches a batch of requests.
+     * <p>
+     * The requests are registered in the cache before this method returns, so that identical requests
+     * issued concurrently wait for this batch instead of being executed again. The non-cached requests
+     * are then executed using the given executor.
+     * </p>
+     *
+     * @param <REQ> The request type
+     * @param <REP> The response type
+     * @param reqs List of requests to process
+     * @param supplier Function to execute the batch of requests
+     * @param executor The executor used to execute the batch
+     * @return A completion stage of the results, completed exceptionally with a {@link BatchRequestException}
+     *         if any request in the batch fails
+     */
+    @Override
+    public <REQ extends Request<?>, REP extends Result<REQ>> CompletionStage<List<REP>> requestsAsync(
+            List<REQ> reqs, Function<List<REQ>, List<REP>> supplier, Executor executor) {
+        Batch<REQ, REP> batch = new Batch<>(reqs);
+        try {
+            // failures of the batch are reported by collect() as a BatchRequestException
+            return CompletableFuture.runAsync(() -> batch.execute(supplier), executor)
+                    .handleAsync((v, t) -> batch.collect(), executor);
+        } catch (RejectedExecutionException e) {
+            // fail the claimed requests so that concurrent callers do not wait forever
+            try {
+                batch.execute(r -> {
+                    throw e;
+                });
+            } catch (RejectedExecutionException ignored) {
+                // reported when collecting the results
             }
+            return CompletableFuture.supplyAsync(batch::collect, Runnable::run);
         }
+    }
+
+    /**
+     * A batch of requests. Each non-cached request is claimed by registering a future in {@link #pending},
+     * completed once the batch has been executed, so that callers of the corresponding cached suppliers only
+     * wait for their own result.
+     */
+    private class Batch<REQ extends Request<?>, REP extends Result<REQ>> {
+        private final List<REQ> reqs;
+        private final List<CachingSupplier<REQ, REP>> suppliers;
+        private final List<REQ> nonCached = new ArrayList<>();
+        private final List<CachingSupplier<REQ, REP>> claimed = new ArrayList<>();
+        private final List<CompletableFuture<Object>> futures = new ArrayList<>();
 
-        if (!nonCached.isEmpty()) {
-            synchronized (nonCachedResults) {
+        Batch(List<REQ> reqs) {
+            this.reqs = reqs;
+            this.suppliers = new ArrayList<>(reqs.size());
+            for (REQ req : reqs) {
+                PendingSupplier<REQ, REP> individualSupplier = new PendingSupplier<>();
+                CachingSupplier<REQ, REP> cs = doCache(req, individualSupplier);
                 try {
-                    List<REP> reps = supplier.apply(nonCached);
-                    for (int i = 0; i < reps.size(); i++) {
-                        nonCachedResults.put(nonCached.get(i), reps.get(i));
-                    }
-                } catch (MavenExecutionException e) {
-                    // If batch request fails, mark all non-cached requests as failed
-                    for (REQ req : nonCached) {
-                        nonCachedResults.put(
-                                req, new CachingSupplier.AltRes(e.getCause())); // Mark as processed but failed
+                    if (cs.getValue() == null) {
+                        CompletableFuture<Object> future = new CompletableFuture<>();
+                        if (pending.putIfAbsent(cs, future) == null) {
+                            nonCached.add(req);
+                            claimed.add(cs);
+                            futures.add(future);
+                        }
                     }
                 } finally {
-                    nonCachedResults.notifyAll();
+                    individualSupplier.bind(cs);
                 }
+                suppliers.add(cs);
             }
         }
 
-        // Collect results in original order
-        boolean hasFailures = false;
-        for (int i = 0; i < reqs.size(); i++) {
-            REQ req = reqs.get(i);
-            CachingSupplier<REQ, REP> cs = suppliers.get(i);
+        void execute(Function<List<REQ>, List<REP>> supplier) {
+            if (nonCached.isEmpty()) {
+                return;
+            }
             try {
-                REP value = cs.apply(req);
-                allResults.add(new RequestResult<>(req, value, null));
-            } catch (Throwable t) {
-                hasFailures = true;
-                allResults.add(new RequestResult<>(req, null, t));
+                List<REP> reps = supplier.apply(nonCached);
+                for (int i = 0; i < reps.size(); i++) {
+                    futures.get(i).complete(reps.get(i));
+                }
+            } catch (MavenExecutionException e) {
+                // If batch request fails, mark all non-cached requests as failed
+                for (CompletableFuture<Object> future : futures) {
+                    future.complete(new CachingSupplier.AltRes(e.getCause()));
+                }
+            } catch (RuntimeException | Error e) {
+                for (CompletableFuture<Object> future : futures) {
+                    future.complete(new CachingSupplier.AltRes(e));
+                }
+                throw e;
+            } finally {
+                for (int i = 0; i < nonCached.size(); i++) {
+                    REQ req = nonCached.get(i);
+                    // never leave a waiter behind, even if the supplier returned too few results
+                    futures.get(i)
+                            .complete(new CachingSupplier.AltRes(
+                                    new IllegalStateException("No result returned for request " + req)));
+                    // store the result in the cached supplier before releasing the claim
+                    CachingSupplier<REQ, REP> cs = claimed.get(i);
+                    try {
+                        cs.apply(req);
+                    } catch (Throwable t) {
+                        // the failure is cached and reported when collecting the results
+                    }
+                    pending.remove(cs);
+                }
+            }
+        }
+
+        List<REP> collect() {
+            // Collect results in original order
+            List<RequestResult<REQ, REP>> allResults = new ArrayList<>(reqs.size());
+            boolean hasFailures = false;
+            for (int i = 0; i < reqs.size(); i++) {
+                REQ req = reqs.get(i);
+                CachingSupplier<REQ, REP> cs = suppliers.get(i);
+                try {
+                    REP value = cs.apply(req);
+                    allResults.add(new RequestResult<>(req, value, null));
+                } catch (Throwable t) {
+                    hasFailures = true;
+                    allResults.add(new RequestResult<>(req, null, t));
+                }
+            }
+
+            if (hasFailures) {
+                throw new BatchRequestException("One or more requests failed", allResults);
             }
+
+            return allResults.stream().map(RequestResult::result).toList();
         }
+    }
+
+    /**
+     * The supplier given to the cache by a batch. It waits for the future of the batch which claimed the cached
+     * supplier, which is not necessarily the batch that created it.
+     */
+    private class PendingSupplier<REQ, REP> implements Function<REQ, REP> {
+        private final CompletableFuture<CachingSupplier<REQ, REP>> owner = new CompletableFuture<>();
 
-        if (hasFailures) {
-            throw new BatchRequestException("One or more requests failed", allResults);
+        void bind(CachingSupplier<REQ, REP> cs) {
+            owner.complete(cs);
         }
 
-        return allResults.stream().map(RequestResult::result).toList();
+        @Override
+        @SuppressWarnings("unchecked")
+        public REP apply(REQ req) {
+            Object val;
+            try {
+                // the cached supplier is only invoked with a null value, so it is claimed until its result is stored
+                CompletableFuture<Object> future = pending.get(owner.get());
+                if (future == null) {
+                    throw new IllegalStateException("No pending batch for request " + req);
+                }
+                val = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CachingSupplier.InterruptedRequestException(e);
+            } catch (ExecutionException e) {
+                // futures are never completed exceptionally
+                throw new IllegalStateException(e);
+            }
+            // failures are returned as is, so that the cached supplier stores errors as well as exceptions,
+            // which is why the type parameters are unbounded: the unchecked cast must not check the type
+            return (REP) val;
+        }
     }
 
     /**
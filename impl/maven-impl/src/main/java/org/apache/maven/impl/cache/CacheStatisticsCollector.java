@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.maven.api.cache.CacheStatistics;
+
+/**
+ * Collects the per request type statistics of request caches.
+ * The collector is thread-safe and can be shared by several caches.
+ */
+public class CacheStatisticsCollector {
+
+    private final Map<Class<?>, Counters> counters = new ConcurrentHashMap<>();
+
+    public void hit(Class<?> type) {
+        counters(type).hits.increment();
+    }
+
+    public void miss(Class<?> type) {
+        counters(type).misses.increment();
+    }
+
+    public void eviction(Class<?> type) {
+        counters(type).evictions.increment();
+    }
+
+    public void load(Class<?> type, long nanos) {
+        counters(type).loadTime.add(nanos);
+    }
+
+    /**
+     * Returns a snapshot of the collected statistics.
+     */
+    public Map<Class<?>, CacheStatistics> snapshot() {
+        return counters.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue()
+                .snapshot()));
+    }
+
+    private Counters counters(Class<?> type) {
+        return counters.computeIfAbsent(type, t -> new Counters());
+    }
+
+    private static class Counters {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+        final LongAdder loadTime = new LongAdder();
+
+        CacheStatistics snapshot() {
+            return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), Duration.ofNanos(loadTime.sum()));
+        }
+    }
+}
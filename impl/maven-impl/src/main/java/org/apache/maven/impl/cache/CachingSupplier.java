@@ -48,6 +48,8 @@ public REP apply(REQ req) {
                 if ((v = value) == null) {
                     try {
                         v = value = supplier.apply(req);
+                    } catch (InterruptedRequestException e) {
+                        throw e;
                     } catch (Exception e) {
                         v = value = new AltRes(e);
                     }
@@ -60,6 +62,16 @@ public REP apply(REQ req) {
         return (REP) v;
     }
 
+    /**
+     * Thrown by a supplier interrupted while waiting for its result. It is not cached, so that the next call
+     * invokes the supplier again.
+     */
+    static class InterruptedRequestException extends RuntimeException {
+        InterruptedRequestException(InterruptedException cause) {
+            super(cause);
+        }
+    }
+
     /**
      * Special holder class for exceptions that occur during supplier execution.
      * Allows caching and re-throwing of exceptions on subsequent calls.
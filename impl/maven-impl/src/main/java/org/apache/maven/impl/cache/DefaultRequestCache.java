@@ -24,6 +24,7 @@
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.Session;
 import org.apache.maven.api.SessionData;
 import org.apache.maven.api.cache.CacheMetadata;
@@ -31,14 +32,36 @@
 import org.apache.maven.api.services.Request;
 import org.apache.maven.api.services.RequestTrace;
 import org.apache.maven.api.services.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Default {@link org.apache.maven.api.cache.RequestCache} implementation.
+ * <p>
+ * Request and session scoped results are kept in soft maps attached to the session data, while
+ * persistent results are kept in a map created by {@link #createPersistentCache(Session)}, which is
+ * bounded by the {@link Constants#MAVEN_CACHE_PERSISTENT_MAX_SIZE} property using a least recently used
+ * eviction policy. Subclasses can override that method to plug in a different policy.
+ */
 public class DefaultRequestCache extends AbstractRequestCache {
 
     protected static final SessionData.Key<ConcurrentMap> KEY =
             SessionData.key(ConcurrentMap.class, CacheMetadata.class);
     protected static final Object ROOT = new Object();
 
-    protected final Map<Object, CachingSupplier<?, ?>> forever = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultRequestCache.class);
+
+    protected final CacheStatisticsCollector statistics;
+
+    protected volatile Map<Object, CachingSupplier<?, ?>> forever;
+
+    public DefaultRequestCache() {
+        this(new CacheStatisticsCollector());
+    }
+
+    public DefaultRequestCache(CacheStatisticsCollector statistics) {
+        this.statistics = statistics;
+    }
 
     @SuppressWarnings("unchecked")
     protected <REQ extends Request<?>, REP extends Result<REQ>> CachingSupplier<REQ, REP> doCache(
@@ -55,13 +78,79 @@ protected <REQ extends Request<?>, REP extends Result<REQ>> CachingSupplier<REQ,
                     session.getData().computeIfAbsent(KEY, ConcurrentHashMap::new);
             cache = caches.computeIfAbsent(key, k -> new SoftIdentityMap<>());
         } else if (retention == CacheRetention.PERSISTENT) {
-            cache = forever;
+            cache = getPersistentCache(req);
         }
+        Class<?> type = req.getClass();
         if (cache != null) {
-            return (CachingSupplier<REQ, REP>) cache.computeIfAbsent(req, r -> new CachingSupplier<>(supplier));
+            boolean[] missed = new boolean[1];
+            CachingSupplier<REQ, REP> cs = (CachingSupplier<REQ, REP>) cache.computeIfAbsent(req, r -> {
+                missed[0] = true;
+                return new CachingSupplier<>(timed(type, supplier));
+            });
+            if (missed[0]) {
+                statistics.miss(type);
+            } else {
+                statistics.hit(type);
+            }
+            return cs;
         } else {
-            return new CachingSupplier<>(supplier);
+            statistics.miss(type);
+            return new CachingSupplier<>(timed(type, supplier));
+        }
+    }
+
+    /**
+     * Creates the map holding the persistent results. The default implementation returns a concurrent map,
+     * or a {@link LruMap} evicting the least recently used results if {@link Constants#MAVEN_CACHE_PERSISTENT_MAX_SIZE}
+     * is set to a positive value. Lookups in both maps do not lock.
+     *
+     * @param session the session of the first persistent request, may be {@code null}
+     * @return the map to use for persistent results
+     */
+    protected Map<Object, CachingSupplier<?, ?>> createPersistentCache(Session session) {
+        int maxSize = getPersistentMaxSize(session);
+        if (maxSize <= 0) {
+            return new ConcurrentHashMap<>();
         }
+        return new LruMap<>(maxSize, key -> statistics.eviction(key.getClass()));
+    }
+
+    private Map<Object, CachingSupplier<?, ?>> getPersistentCache(Request<?> req) {
+        Map<Object, CachingSupplier<?, ?>> cache = forever;
+        if (cache == null) {
+            synchronized (this) {
+                cache = forever;
+                if (cache == null) {
+                    cache = createPersistentCache(req.getSession() instanceof Session session ? session : null);
+                    forever = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private static int getPersistentMaxSize(Session session) {
+        String value =
+                session != null ? session.getUserProperties().get(Constants.MAVEN_CACHE_PERSISTENT_MAX_SIZE) : null;
+        if (value != null) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid value for {}: {}", Constants.MAVEN_CACHE_PERSISTENT_MAX_SIZE, value);
+            }
+        }
+        return 0;
+    }
+
+    private <REQ, REP> Function<REQ, REP> timed(Class<?> type, Function<REQ, REP> supplier) {
+        return r -> {
+            long start = System.nanoTime();
+            try {
+                return supplier.apply(r);
+            } finally {
+                statistics.load(type, System.nanoTime() - start);
+            }
+        };
     }
 
     private <REQ extends Request<?>> Object doGetOuterRequest(REQ req) {
@@ -18,6 +18,9 @@
  */
 package org.apache.maven.impl.cache;
 
+import java.util.Map;
+
+import org.apache.maven.api.cache.CacheStatistics;
 import org.apache.maven.api.cache.RequestCache;
 import org.apache.maven.api.cache.RequestCacheFactory;
 import org.apache.maven.api.di.Named;
@@ -27,7 +30,15 @@
 @Singleton
 public class DefaultRequestCacheFactory implements RequestCacheFactory {
 
+    private final CacheStatisticsCollector statistics = new CacheStatisticsCollector();
+
+    @Override
     public RequestCache createCache() {
-        return new DefaultRequestCache();
+        return new DefaultRequestCache(statistics);
+    }
+
+    @Override
+    public Map<Class<?>, CacheStatistics> getStatistics() {
+        return statistics.snapshot();
     }
 }
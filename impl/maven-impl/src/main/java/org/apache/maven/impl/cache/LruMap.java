@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A concurrent Map bounded to a maximum size, evicting the least recently used entries.
+ * <p>
+ * Entries are kept in a {@link ConcurrentHashMap} and stamped with a logical clock on each access,
+ * so that lookups do not take any lock. When an insertion makes the map exceed its maximum size,
+ * the entries with the oldest stamps are removed. Finding them requires a scan of the map, which
+ * is only done when a new entry is added to a full map.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class LruMap<K, V> extends AbstractMap<K, V> {
+
+    private final ConcurrentHashMap<K, Node<V>> map = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final int maxSize;
+    private final Consumer<? super K> evictionListener;
+
+    private static final class Node<V> {
+        private final V value;
+        private volatile long access;
+
+        Node(V value, long access) {
+            this.value = value;
+            this.access = access;
+        }
+    }
+
+    /**
+     * Creates a new map.
+     *
+     * @param maxSize the maximum number of entries, must be positive
+     * @param evictionListener notified with the key of each evicted entry
+     */
+    public LruMap(int maxSize, Consumer<? super K> evictionListener) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.evictionListener = Objects.requireNonNull(evictionListener);
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<V> node = map.get(key);
+        return node != null ? touch(node) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        Node<V> node = map.get(key);
+        if (node != null) {
+            return touch(node);
+        }
+        boolean[] added = new boolean[1];
+        node = map.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            if (value == null) {
+                return null;
+            }
+            added[0] = true;
+            return new Node<>(value, clock.incrementAndGet());
+        });
+        if (node == null) {
+            return null;
+        }
+        if (added[0]) {
+            evict();
+            return node.value;
+        }
+        return touch(node);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        Node<V> old = map.put(key, new Node<>(value, clock.incrementAndGet()));
+        if (old == null) {
+            evict();
+            return null;
+        }
+        return old.value;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<V> old = map.remove(key);
+        return old != null ? old.value : null;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<Entry<K, Node<V>>> it = map.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        Entry<K, Node<V>> e = it.next();
+                        return new SimpleImmutableEntry<>(e.getKey(), e.getValue().value);
+                    }
+
+                    @Override
+                    public void remove() {
+                        it.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    private V touch(Node<V> node) {
+        node.access = clock.incrementAndGet();
+        return node.value;
+    }
+
+    private void evict() {
+        while (map.size() > maxSize) {
+            Entry<K, Node<V>> eldest = null;
+            for (Entry<K, Node<V>> e : map.entrySet()) {
+                if (eldest == null || e.getValue().access < eldest.getValue().access) {
+                    eldest = e;
+                }
+            }
+            if (eldest != null && map.remove(eldest.getKey(), eldest.getValue())) {
+                evictionListener.accept(eldest.getKey());
+            }
+        }
+    }
+}
@@ -18,10 +18,13 @@
  */
 package org.apache.maven.impl.model;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BinaryOperator;
 import java.util.function.UnaryOperator;
 
@@ -40,6 +43,18 @@ public class DefaultInterpolator implements Interpolator {
     private static final String DELIM_STOP = "}";
     private static final String MARKER = "$__";
 
+    /**
+     * Maximum number of compiled templates kept in the cache, which is cleared when it grows larger.
+     */
+    private static final int MAX_TEMPLATES = 10000;
+
+    /**
+     * Marker for values that are not simple templates and need the full substitution algorithm.
+     */
+    private static final Template COMPLEX = new Template(new String[0], new String[0]);
+
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
     @Override
     public void interpolate(
             Map<String, String> map,
@@ -69,6 +84,24 @@ public void interpolate(
     @Override
     public String interpolate(
             String val, UnaryOperator<String> callback, BinaryOperator<String> postprocessor, boolean defaultsToEmpty) {
+        if (val == null || val.indexOf('$') < 0 && val.indexOf(ESCAPE_CHAR) < 0) {
+            // nothing to substitute nor to unescape
+            return val;
+        }
+        Template template = templates.get(val);
+        if (template == null) {
+            template = compile(val);
+            if (templates.size() >= MAX_TEMPLATES) {
+                templates.clear();
+            }
+            templates.put(val, template);
+        }
+        if (template != COMPLEX) {
+            String result = template.evaluate(callback, postprocessor, defaultsToEmpty);
+            if (result != null) {
+                return result;
+            }
+        }
         return interpolate(val, null, null, callback, postprocessor, defaultsToEmpty);
     }
 
@@ -387,6 +420,96 @@ private static String resolveVariable(
         return substValue;
     }
 
+    /**
+     * Compiles the given value into a template made of literals and simple {@code ${expression}} placeholders,
+     * or returns {@link #COMPLEX} if the value uses nested placeholders, operators, escapes or stray {@code $}
+     * characters, which are left to {@link #substVars(String, String, Set, Map, UnaryOperator, BinaryOperator,
+     * boolean)}.
+     */
+    static Template compile(String val) {
+        List<String> literals = new ArrayList<>();
+        List<String> expressions = new ArrayList<>();
+        int pos = 0;
+        while (true) {
+            int start = val.indexOf(DELIM_START, pos);
+            String literal = val.substring(pos, start >= 0 ? start : val.length());
+            if (literal.indexOf('$') >= 0 || literal.indexOf(ESCAPE_CHAR) >= 0) {
+                return COMPLEX;
+            }
+            literals.add(literal);
+            if (start < 0) {
+                break;
+            }
+            int stop = val.indexOf(DELIM_STOP, start + DELIM_START.length());
+            if (stop < 0) {
+                return COMPLEX;
+            }
+            String expression = val.substring(start + DELIM_START.length(), stop);
+            if (expression.isEmpty()
+                    || expression.indexOf('$') >= 0
+                    || expression.indexOf(ESCAPE_CHAR) >= 0
+                    || expression.contains(":-")
+                    || expression.contains(":+")) {
+                return COMPLEX;
+            }
+            expressions.add(expression);
+            pos = stop + DELIM_STOP.length();
+        }
+        return new Template(literals.toArray(new String[0]), expressions.toArray(new String[0]));
+    }
+
+    /**
+     * A value parsed into literals separated by placeholders, so that it does not need to be scanned again
+     * when it is interpolated. It gives the same result as the full substitution algorithm, which is
+     * used instead when a substituted value contains a {@code $} and may thus form new placeholders.
+     */
+    static final class Template {
+        private final String[] literals;
+        private final String[] expressions;
+
+        Template(String[] literals, String[] expressions) {
+            this.literals = literals;
+            this.expressions = expressions;
+        }
+
+        /**
+         * Evaluates this template, or returns {@code null} if the full substitution algorithm is needed.
+         */
+        @Nullable
+        String evaluate(
+                @Nullable UnaryOperator<String> callback,
+                @Nullable BinaryOperator<String> postprocessor,
+                boolean defaultsToEmpty) {
+            StringBuilder sb = new StringBuilder(literals[0]);
+            boolean escapes = false;
+            for (int i = 0; i < expressions.length; i++) {
+                String expression = expressions[i];
+                String value = null;
+                if (callback != null) {
+                    value = callback.apply(expression);
+                    if (value != null && value.contains(DELIM_START)) {
+                        Set<String> cycleMap = new HashSet<>();
+                        cycleMap.add(expression);
+                        value = doSubstVars(
+                                value, expression, cycleMap, null, callback, postprocessor, defaultsToEmpty);
+                    }
+                    if (postprocessor != null) {
+                        value = postprocessor.apply(expression, value);
+                    }
+                }
+                if (value == null) {
+                    value = defaultsToEmpty ? "" : DELIM_START + expression + DELIM_STOP;
+                } else if (value.indexOf('$') >= 0) {
+                    return null;
+                } else {
+                    escapes |= value.indexOf(ESCAPE_CHAR) >= 0;
+                }
+                sb.append(value).append(literals[i + 1]);
+            }
+            return escapes ? unescape(sb.toString()) : sb.toString();
+        }
+    }
+
     /**
      * Escapes special characters in the given string to prevent unwanted interpolation.
      *
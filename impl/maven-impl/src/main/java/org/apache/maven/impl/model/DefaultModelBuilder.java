@@ -40,6 +40,7 @@
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -115,6 +116,7 @@
 import org.apache.maven.impl.InternalSession;
 import org.apache.maven.impl.RequestTraceHelper;
 import org.apache.maven.impl.util.PhasingExecutor;
+import org.apache.maven.impl.util.VirtualThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -263,6 +265,9 @@ protected class ModelBuilderSessionState implements ModelProblemCollector {
         List<RemoteRepository> externalRepositories;
         List<RemoteRepository> repositories;
 
+        // bounds the CPU-bound tasks when models are loaded using virtual threads, null otherwise
+        final Semaphore cpuPermits;
+
         ModelBuilderSessionState(ModelBuilderRequest request) {
             this(
                     request.getSession(),
@@ -272,7 +277,10 @@ protected class ModelBuilderSessionState implements ModelProblemCollector {
                     new ConcurrentHashMap<>(64),
                     List.of(),
                     repos(request),
-                    repos(request));
+                    repos(request),
+                    useVirtualThreads(request, VirtualThreads.isAvailable())
+                            ? new Semaphore(getParallelism(request))
+                            : null);
         }
 
         static List<RemoteRepository> repos(ModelBuilderRequest request) {
@@ -291,7 +299,8 @@ private ModelBuilderSessionState(
                 Map<GAKey, Set<ModelSource>> mappedSources,
                 List<RemoteRepository> pomRepositories,
                 List<RemoteRepository> externalRepositories,
-                List<RemoteRepository> repositories) {
+                List<RemoteRepository> repositories,
+                Semaphore cpuPermits) {
             this.session = session;
             this.request = request;
             this.result = result;
@@ -300,6 +309,7 @@ private ModelBuilderSessionState(
             this.pomRepositories = pomRepositories;
             this.externalRepositories = externalRepositories;
             this.repositories = repositories;
+            this.cpuPermits = cpuPermits;
             this.result.setSource(this.request.getSource());
         }
 
@@ -323,7 +333,15 @@ ModelBuilderSessionState derive(ModelBuilderRequest request, DefaultModelBuilder
                 throw new IllegalArgumentException("Session mismatch");
             }
             return new ModelBuilderSessionState(
-                    session, request, result, dag, mappedSources, pomRepositories, externalRepositories, repositories);
+                    session,
+                    request,
+                    result,
+                    dag,
+                    mappedSources,
+                    pomRepositories,
+                    externalRepositories,
+                    repositories,
+                    cpuPermits);
         }
 
         @Override
@@ -335,10 +353,50 @@ public String toString() {
         }
 
         PhasingExecutor createExecutor() {
-            return new PhasingExecutor(Executors.newFixedThreadPool(getParallelism()));
+            if (cpuPermits != null) {
+                // loading models is mostly blocking I/O, so use one virtual thread per task
+                return new PhasingExecutor(VirtualThreads.newVirtualThreadPerTaskExecutor());
+            }
+            return new PhasingExecutor(Executors.newFixedThreadPool(getParallelism(request)));
+        }
+
+        /**
+         * Runs a CPU-bound task such as model interpolation or validation. When models are loaded
+         * using virtual threads, the number of such tasks running concurrently is bounded by the
+         * model builder parallelism.
+         */
+        <T> T cpuBound(Supplier<T> task) {
+            if (cpuPermits == null) {
+                return task.get();
+            }
+            cpuPermits.acquireUninterruptibly();
+            try {
+                return task.get();
+            } finally {
+                cpuPermits.release();
+            }
+        }
+
+        void cpuBound(Runnable task) {
+            cpuBound(() -> {
+                task.run();
+                return null;
+            });
+        }
+
+        static boolean useVirtualThreads(ModelBuilderRequest request, boolean supported) {
+            if (!Boolean.parseBoolean(request.getUserProperties().get(Constants.MAVEN_MODEL_BUILDER_VIRTUAL_THREADS))) {
+                return false;
+            }
+            if (!supported) {
+                LoggerFactory.getLogger(DefaultModelBuilder.class)
+                        .debug("Virtual threads are not supported by the running JVM, using platform threads");
+                return false;
+            }
+            return true;
         }
 
-        private int getParallelism() {
+        private static int getParallelism(ModelBuilderRequest request) {
             int parallelism = Runtime.getRuntime().availableProcessors() / 2 + 1;
             try {
                 String str = request.getUserProperties().get(Constants.MAVEN_MODEL_BUILDER_PARALLELISM);
@@ -841,10 +899,11 @@ void buildEffectiveModel(Collection<String> importIds) throws ModelBuilderExcept
             }
 
             // effective model validation
-            modelValidator.validateEffectiveModel(
-                    resultModel,
+            Model effectiveModel = resultModel;
+            cpuBound(() -> modelValidator.validateEffectiveModel(
+                    effectiveModel,
                     isBuildRequest() ? ModelValidator.VALIDATION_LEVEL_STRICT : ModelValidator.VALIDATION_LEVEL_MINIMAL,
-                    this);
+                    this));
 
             if (hasErrors()) {
                 throw newModelBuilderException();
@@ -1197,8 +1256,8 @@ private Model readEffectiveModel() throws ModelBuilderException {
             addActivePomProfiles(activePomProfiles);
 
             // model interpolation
-            Model resultModel = model;
-            resultModel = interpolateModel(resultModel, request, this);
+            Model injectedModel = model;
+            Model resultModel = cpuBound(() -> interpolateModel(injectedModel, request, this));
 
             // url normalization
             resultModel = modelUrlNormalizer.normalize(resultModel, request);
@@ -1261,15 +1320,33 @@ Model doReadFileModel() throws ModelBuilderException {
                         rootDirectory = rootDirectory.getParent();
                     }
                 }
-                try (InputStream is = modelSource.openStream()) {
-                    model = modelProcessor.read(XmlReaderRequest.builder()
-                            .strict(strict)
-                            .location(modelSource.getLocation())
-                            .path(modelSource.getPath())
-                            .rootDirectory(rootDirectory)
-                            .inputStream(is)
-                            .transformer(new InliningTransformer())
-                            .build());
+                PersistentModelCache persistentCache = PersistentModelCache.of(request.getSession());
+                try {
+                    if (!strict && persistentCache.isEnabled() && modelSource.getPath() != null) {
+                        Path rd = rootDirectory;
+                        model = persistentCache.read(
+                                modelSource.getPath(),
+                                modelSource.getLocation() + "\n" + rd,
+                                is -> modelProcessor.read(XmlReaderRequest.builder()
+                                        .strict(false)
+                                        .location(modelSource.getLocation())
+                                        .path(modelSource.getPath())
+                                        .rootDirectory(rd)
+                                        .inputStream(is)
+                                        .transformer(new InliningTransformer())
+                                        .build()));
+                    } else {
+                        try (InputStream is = modelSource.openStream()) {
+                            model = modelProcessor.read(XmlReaderRequest.builder()
+                                    .strict(strict)
+                                    .location(modelSource.getLocation())
+                                    .path(modelSource.getPath())
+                                    .rootDirectory(rootDirectory)
+                                    .inputStream(is)
+                                    .transformer(new InliningTransformer())
+                                    .build());
+                        }
+                    }
                 } catch (XmlReaderException e) {
                     if (!strict) {
                         throw e;
@@ -1440,10 +1517,11 @@ Model doReadFileModel() throws ModelBuilderException {
             }
 
             setSource(model);
-            modelValidator.validateFileModel(
-                    model,
+            Model fileModel = model;
+            cpuBound(() -> modelValidator.validateFileModel(
+                    fileModel,
                     isBuildRequest() ? ModelValidator.VALIDATION_LEVEL_STRICT : ModelValidator.VALIDATION_LEVEL_MINIMAL,
-                    this);
+                    this));
             if (hasFatalErrors()) {
                 throw newModelBuilderException();
             }
@@ -1522,10 +1600,11 @@ private Model doReadRawModel() throws ModelBuilderException {
                 rawModel = transformer.transformRawModel(rawModel);
             }
 
-            modelValidator.validateRawModel(
-                    rawModel,
+            Model transformedModel = rawModel;
+            cpuBound(() -> modelValidator.validateRawModel(
+                    transformedModel,
                     isBuildRequest() ? ModelValidator.VALIDATION_LEVEL_STRICT : ModelValidator.VALIDATION_LEVEL_MINIMAL,
-                    this);
+                    this));
 
             if (hasFatalErrors()) {
                 throw newModelBuilderException();
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.xml.XmlReaderException;
+import org.apache.maven.model.v4.MavenBinaryReader;
+import org.apache.maven.model.v4.MavenBinaryWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of the file models read from POMs outside of the build, usually the POMs of
+ * dependencies and plugins stored in the local repository. Entries are stored below
+ * {@code <local repository>/.cache/models} and are keyed by the location of the POM.
+ * An entry is used when the size and last modified time of the POM match the recorded ones,
+ * or else when the hash of the POM content still matches, so that an unchanged POM is never
+ * parsed again. Models are stored with {@link MavenBinaryWriter}, including their input locations.
+ * The cache is enabled with {@link Constants#MAVEN_MODEL_BUILDER_PERSISTENT_CACHE}.
+ * <p>
+ * Any failure to read or write an entry is ignored and simply causes the POM to be parsed.
+ */
+class PersistentModelCache {
+
+    static final String CACHE_DIRECTORY = ".cache/models";
+
+    private static final SessionData.Key<PersistentModelCache> KEY = SessionData.key(PersistentModelCache.class);
+
+    private static final int MAGIC = 0x4D4D4302;
+
+    private static final PersistentModelCache DISABLED = new PersistentModelCache(null);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Path directory;
+
+    PersistentModelCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the cache for the given session, which is disabled unless
+     * {@link Constants#MAVEN_MODEL_BUILDER_PERSISTENT_CACHE} is set.
+     */
+    static PersistentModelCache of(Session session) {
+        String enabled = session.getUserProperties().get(Constants.MAVEN_MODEL_BUILDER_PERSISTENT_CACHE);
+        if (!Boolean.parseBoolean(enabled)) {
+            return DISABLED;
+        }
+        return session.getData()
+                .computeIfAbsent(
+                        KEY,
+                        () -> new PersistentModelCache(
+                                session.getLocalRepository().getPath().resolve(CACHE_DIRECTORY)));
+    }
+
+    boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Reads the model of the given POM, either from the cache or using the given reader,
+     * in which case the cache entry is updated.
+     *
+     * @param pom the POM file
+     * @param key the additional inputs of the reader that the model depends on
+     * @param reader the reader used on cache misses
+     */
+    Model read(Path pom, String key, ModelReader reader) throws IOException, XmlReaderException {
+        Path entry = entry(pom, key);
+        BasicFileAttributes attrs = Files.readAttributes(pom, BasicFileAttributes.class);
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        byte[] content = null;
+        byte[] hash = null;
+        Model model = null;
+        if (Files.isRegularFile(entry)) {
+            try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+                if (dis.readInt() == MAGIC) {
+                    long entrySize = dis.readLong();
+                    long entryLastModified = dis.readLong();
+                    byte[] entryHash = dis.readNBytes(dis.readUnsignedByte());
+                    boolean valid = entrySize == size && entryLastModified == lastModified;
+                    if (!valid && entrySize == size) {
+                        // the POM may have been touched or downloaded again, check its content
+                        content = Files.readAllBytes(pom);
+                        hash = hash(content);
+                        valid = Arrays.equals(hash, entryHash);
+                    }
+                    if (valid) {
+                        model = new MavenBinaryReader().read(dis);
+                    }
+                }
+            } catch (IOException e) {
+                logger.debug("Ignoring invalid model cache entry {}: {}", entry, e.toString());
+            }
+        }
+        if (model != null && content == null) {
+            return model;
+        }
+        if (content == null) {
+            content = Files.readAllBytes(pom);
+            hash = hash(content);
+        }
+        if (model == null) {
+            model = reader.read(new ByteArrayInputStream(content));
+        }
+        try {
+            write(entry, size, lastModified, hash, model);
+        } catch (IOException e) {
+            logger.debug("Unable to write model cache entry {}: {}", entry, e.toString());
+        }
+        return model;
+    }
+
+    private void write(Path entry, long size, long lastModified, byte[] hash, Model model) throws IOException {
+        Files.createDirectories(entry.getParent());
+        Path tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmp));
+                    DataOutputStream dos = new DataOutputStream(os)) {
+                dos.writeInt(MAGIC);
+                dos.writeLong(size);
+                dos.writeLong(lastModified);
+                dos.writeByte(hash.length);
+                dos.write(hash);
+                new MavenBinaryWriter().write(dos, model);
+            }
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private Path entry(Path pom, String key) {
+        String name = HexFormat.of()
+                .formatHex(hash((pom.toAbsolutePath().normalize() + "\n" + key).getBytes(StandardCharsets.UTF_8)));
+        return directory.resolve(name.substring(0, 2)).resolve(name.substring(2));
+    }
+
+    private static byte[] hash(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads a model from the POM content.
+     */
+    @FunctionalInterface
+    interface ModelReader {
+        Model read(InputStream content) throws IOException, XmlReaderException;
+    }
+}
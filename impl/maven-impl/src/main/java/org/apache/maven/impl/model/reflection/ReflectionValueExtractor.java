@@ -18,16 +18,17 @@
  */
 package org.apache.maven.impl.model.reflection;
 
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.api.annotations.Nonnull;
 import org.apache.maven.api.annotations.Nullable;
@@ -38,16 +39,40 @@
  * <p>
  * In addition to usual getters using {@code getXxx} or {@code isXxx} suffixes, accessors
  * using {@code asXxx} or {@code toXxx} prefixes are also supported.
+ * <p>
+ * Expressions are parsed once into a list of steps, and the accessors of the properties are resolved once
+ * per class into method handles. Both are cached without locking, so that evaluating an expression again
+ * only costs the invocation of its accessors.
  */
 public class ReflectionValueExtractor {
-    private static final Object[] OBJECT_ARGS = new Object[0];
+
+    private static final String[] PREFIXES = {"get", "is", "to", "as"};
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Maximum number of compiled expressions kept in each cache, which is cleared when it grows larger.
+     */
+    private static final int MAX_EXPRESSIONS = 10000;
+
+    /**
+     * The accessors of each class, which are discarded along with the class.
+     */
+    private static final ClassValue<ClassAccessors> CLASS_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected ClassAccessors computeValue(Class<?> type) {
+            return new ClassAccessors(type);
+        }
+    };
+
+    private static final Map<String, Step[]> EXPRESSIONS = new ConcurrentHashMap<>();
+
+    private static final Map<String, Step[]> ROOT_TRIMMED_EXPRESSIONS = new ConcurrentHashMap<>();
 
     /**
-     * Use a WeakHashMap here, so the keys (Class objects) can be garbage collected.
-     * This approach prevents permgen space overflows due to retention of discarded
-     * classloaders.
+     * Steps of expressions that always evaluate to {@code null}.
      */
-    private static final Map<Class<?>, WeakReference<ClassMap>> CLASS_MAPS = new WeakHashMap<>();
+    private static final Step[] NULL_EXPRESSION = new Step[0];
 
     static final int EOF = -1;
 
@@ -160,15 +185,44 @@ public static Object evaluate(@Nonnull String expression, @Nullable Object root)
      */
     public static Object evaluate(@Nonnull String expression, @Nullable Object root, boolean trimRootToken)
             throws IntrospectionException {
-        Object value = root;
+        if (expression == null) {
+            return null;
+        }
+        Map<String, Step[]> expressions = trimRootToken ? ROOT_TRIMMED_EXPRESSIONS : EXPRESSIONS;
+        Step[] steps = expressions.get(expression);
+        if (steps == null) {
+            steps = compile(expression, trimRootToken);
+            if (expressions.size() >= MAX_EXPRESSIONS) {
+                expressions.clear();
+            }
+            expressions.put(expression, steps);
+        }
+        if (steps == NULL_EXPRESSION) {
+            return null;
+        }
 
         // ----------------------------------------------------------------------
         // Walk the dots and retrieve the ultimate value desired from the
         // MavenProject instance.
         // ----------------------------------------------------------------------
 
-        if (expression == null || expression.isEmpty() || !Character.isJavaIdentifierStart(expression.charAt(0))) {
-            return null;
+        Object value = root;
+        for (int i = 0; value != null && i < steps.length; i++) {
+            value = steps[i].apply(expression, value);
+        }
+
+        if (value instanceof Optional<?> optional) {
+            value = optional.orElse(null);
+        }
+        return value;
+    }
+
+    /**
+     * Parses the given expression into the steps to apply to the root object.
+     */
+    private static Step[] compile(String expression, boolean trimRootToken) {
+        if (expression.isEmpty() || !Character.isJavaIdentifierStart(expression.charAt(0))) {
+            return NULL_EXPRESSION;
         }
 
         boolean hasDots = expression.indexOf(PROPERTY_START) >= 0;
@@ -178,45 +232,41 @@ public static Object evaluate(@Nonnull String expression, @Nullable Object root,
             tokenizer = new Tokenizer(expression);
             tokenizer.nextPropertyName();
             if (tokenizer.getPosition() == EOF) {
-                return null;
+                return NULL_EXPRESSION;
             }
         } else {
             tokenizer = new Tokenizer("." + expression);
         }
 
+        List<Step> steps = new ArrayList<>();
         int propertyPosition = tokenizer.getPosition();
-        while (value != null && tokenizer.peekChar() != EOF) {
+        while (tokenizer.peekChar() != EOF) {
             switch (tokenizer.skipChar()) {
-                case INDEXED_START:
-                    value = getIndexedValue(
-                            expression,
-                            propertyPosition,
-                            tokenizer.getPosition(),
-                            value,
-                            tokenizer.nextToken(INDEXED_END));
-                    break;
-                case MAPPED_START:
-                    value = getMappedValue(
-                            expression,
-                            propertyPosition,
-                            tokenizer.getPosition(),
-                            value,
-                            tokenizer.nextToken(MAPPED_END));
-                    break;
-                case PROPERTY_START:
+                case INDEXED_START -> {
+                    int from = propertyPosition;
+                    int to = tokenizer.getPosition();
+                    String index = tokenizer.nextToken(INDEXED_END);
+                    steps.add((expr, value) -> getIndexedValue(expr, from, to, value, index));
+                }
+                case MAPPED_START -> {
+                    int from = propertyPosition;
+                    int to = tokenizer.getPosition();
+                    String key = tokenizer.nextToken(MAPPED_END);
+                    steps.add((expr, value) -> getMappedValue(expr, from, to, value, key));
+                }
+                case PROPERTY_START -> {
                     propertyPosition = tokenizer.getPosition();
-                    value = getPropertyValue(value, tokenizer.nextPropertyName());
-                    break;
-                default:
+                    String property = tokenizer.nextPropertyName();
+                    steps.add((expr, value) -> getPropertyValue(value, property));
+                }
+                default -> {
                     // could not parse expression
-                    return null;
+                    steps.add((expr, value) -> null);
+                    return steps.toArray(new Step[0]);
+                }
             }
         }
-
-        if (value instanceof Optional<?> optional) {
-            value = optional.orElse(null);
-        }
-        return value;
+        return steps.toArray(new Step[0]);
     }
 
     private static Object getMappedValue(
@@ -268,33 +318,72 @@ private static Object getPropertyValue(Object value, String property) throws Int
             return null;
         }
 
-        ClassMap classMap = getClassMap(value.getClass());
-        String methodBase = Character.toTitleCase(property.charAt(0)) + property.substring(1);
-        try {
-            for (String prefix : Arrays.asList("get", "is", "to", "as")) {
-                Method method = classMap.findMethod(prefix + methodBase);
-                if (method != null) {
-                    return method.invoke(value, OBJECT_ARGS);
-                }
-            }
+        MethodHandle accessor = CLASS_ACCESSORS.get(value.getClass()).getAccessor(property);
+        if (accessor == null) {
             return null;
-        } catch (InvocationTargetException e) {
-            throw new IntrospectionException(e.getTargetException());
-        } catch (MethodMap.AmbiguousException | IllegalAccessException e) {
+        }
+        try {
+            return (Object) accessor.invokeExact(value);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // only exceptions thrown by the accessor are wrapped, as with Method.invoke()
             throw new IntrospectionException(e);
         }
     }
 
-    private static ClassMap getClassMap(Class<?> clazz) {
-        Reference<ClassMap> ref = CLASS_MAPS.get(clazz);
-        ClassMap classMap = ref != null ? ref.get() : null;
+    /**
+     * A step of a compiled expression, applied to the value computed by the previous step.
+     */
+    @FunctionalInterface
+    private interface Step {
+        Object apply(String expression, Object value) throws IntrospectionException;
+    }
+
+    /**
+     * The accessors of the properties of a class.
+     */
+    private static final class ClassAccessors {
+
+        /**
+         * Marker for properties without accessor.
+         */
+        private static final MethodHandle NONE = MethodHandles.constant(Object.class, null);
 
-        if (classMap == null) {
-            classMap = new ClassMap(clazz);
+        private final ClassMap classMap;
 
-            CLASS_MAPS.put(clazz, new WeakReference<>(classMap));
+        private final Map<String, MethodHandle> accessors = new ConcurrentHashMap<>();
+
+        ClassAccessors(Class<?> type) {
+            this.classMap = new ClassMap(type);
+        }
+
+        MethodHandle getAccessor(String property) throws IntrospectionException {
+            MethodHandle accessor = accessors.get(property);
+            if (accessor == null) {
+                accessor = findAccessor(property);
+                accessors.put(property, accessor);
+            }
+            return accessor != NONE ? accessor : null;
         }
 
-        return classMap;
+        private MethodHandle findAccessor(String property) throws IntrospectionException {
+            String methodBase = Character.toTitleCase(property.charAt(0)) + property.substring(1);
+            try {
+                for (String prefix : PREFIXES) {
+                    Method method = classMap.findMethod(prefix + methodBase);
+                    if (method != null) {
+                        MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+                        if (Modifier.isStatic(method.getModifiers())) {
+                            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                        }
+                        return handle.asType(ACCESSOR_TYPE);
+                    }
+                }
+                return NONE;
+            } catch (MethodMap.AmbiguousException | IllegalAccessException e) {
+                throw new IntrospectionException(e);
+            }
+        }
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.aether.spi.connector.transport.GetTask;
+import org.eclipse.aether.spi.connector.transport.PutTask;
+import org.eclipse.aether.spi.connector.transport.Transporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultTransportTest {
+
+    private static final URI BASE = URI.create("https://repo.example.org/maven2/");
+
+    private Transporter transporter;
+    private final List<Path> paths = new ArrayList<>();
+    private final List<byte[]> uploads = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        transporter = mock(Transporter.class);
+        doAnswer(invocation -> {
+                    GetTask task = invocation.getArgument(0);
+                    if (task.getLocation().getPath().endsWith("missing.xml")) {
+                        throw new FileNotFoundException();
+                    }
+                    paths.add(task.getDataPath());
+                    try (OutputStream os = task.newOutputStream()) {
+                        os.write(task.getLocation().toString().getBytes(StandardCharsets.UTF_8));
+                    }
+                    return null;
+                })
+                .when(transporter)
+                .get(any());
+        doAnswer(invocation -> {
+                    PutTask task = invocation.getArgument(0);
+                    paths.add(task.getDataPath());
+                    try (InputStream is = task.newInputStream()) {
+                        uploads.add(is.readAllBytes());
+                    }
+                    return null;
+                })
+                .when(transporter)
+                .put(any());
+        when(transporter.classify(any(FileNotFoundException.class))).thenReturn(Transporter.ERROR_NOT_FOUND);
+    }
+
+    @Test
+    void testGetBytesInMemory() {
+        DefaultTransport transport = new DefaultTransport(BASE, transporter);
+
+        assertEquals(
+                Optional.of(BASE + "g/a/maven-metadata.xml"),
+                transport.getString(URI.create("g/a/maven-metadata.xml")));
+        assertNull(paths.get(0));
+        assertFalse(transport.getBytes(URI.create("g/a/missing.xml")).isPresent());
+    }
+
+    @Test
+    void testGetStream() throws Exception {
+        DefaultTransport transport = new DefaultTransport(BASE, transporter);
+
+        try (InputStream is = transport.getStream(URI.create("g/a/a-1.jar")).orElseThrow()) {
+            assertEquals(BASE + "g/a/a-1.jar", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertFalse(paths.get(0).toFile().exists());
+        assertFalse(transport.getStream(URI.create("g/a/missing.xml")).isPresent());
+    }
+
+    @Test
+    void testPutInMemoryBelowThreshold() {
+        DefaultTransport transport = new DefaultTransport(BASE, transporter, 8);
+
+        transport.putString("content", URI.create("g/a/file.txt"));
+        transport.putStream(new ByteArrayInputStream(new byte[8]), URI.create("g/a/file.bin"));
+
+        assertNull(paths.get(0));
+        assertNull(paths.get(1));
+        assertArrayEquals("content".getBytes(StandardCharsets.UTF_8), uploads.get(0));
+        assertArrayEquals(new byte[8], uploads.get(1));
+    }
+
+    @Test
+    void testPutStreamAboveThresholdIsSpooled() {
+        DefaultTransport transport = new DefaultTransport(BASE, transporter, 8);
+        byte[] data = new byte[100];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        transport.putStream(new ByteArrayInputStream(data), URI.create("g/a/file.bin"));
+
+        assertNotNull(paths.get(0));
+        assertFalse(paths.get(0).toFile().exists());
+        assertArrayEquals(data, uploads.get(0));
+    }
+
+    @Test
+    void testRelativeUris() {
+        DefaultTransport transport = new DefaultTransport(BASE, transporter);
+
+        assertThrows(IllegalArgumentException.class, () -> transport.getBytes(URI.create("https://other.org/")));
+        assertThrows(IllegalArgumentException.class, () -> transport.putBytes(new byte[0], URI.create("../up")));
+        assertTrue(uploads.isEmpty());
+    }
+}
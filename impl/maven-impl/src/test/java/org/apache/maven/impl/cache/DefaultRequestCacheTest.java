@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.Session;
+import org.apache.maven.api.cache.BatchRequestException;
+import org.apache.maven.api.cache.CacheMetadata;
+import org.apache.maven.api.cache.CacheRetention;
+import org.apache.maven.api.cache.CacheStatistics;
+import org.apache.maven.api.cache.MavenExecutionException;
+import org.apache.maven.api.services.Request;
+import org.apache.maven.api.services.RequestTrace;
+import org.apache.maven.api.services.Result;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultRequestCacheTest {
+
+    @Test
+    void testPersistentCacheEvictsLeastRecentlyUsed() {
+        Session session = mock(Session.class);
+        when(session.getUserProperties()).thenReturn(Map.of(Constants.MAVEN_CACHE_PERSISTENT_MAX_SIZE, "2"));
+        DefaultRequestCacheFactory factory = new DefaultRequestCacheFactory();
+        DefaultRequestCache cache = (DefaultRequestCache) factory.createCache();
+        AtomicInteger executions = new AtomicInteger();
+
+        cache.request(new TestRequest(session, "a"), r -> execute(r, executions));
+        cache.request(new TestRequest(session, "b"), r -> execute(r, executions));
+        cache.request(new TestRequest(session, "a"), r -> execute(r, executions));
+        cache.request(new TestRequest(session, "c"), r -> execute(r, executions)); // evicts b
+        cache.request(new TestRequest(session, "a"), r -> execute(r, executions));
+        cache.request(new TestRequest(session, "b"), r -> execute(r, executions));
+
+        assertEquals(4, executions.get());
+        CacheStatistics stats = factory.getStatistics().get(TestRequest.class);
+        assertEquals(2, stats.hits());
+        assertEquals(4, stats.misses());
+        assertEquals(2, stats.evictions());
+        assertEquals(1d / 3, stats.hitRate(), 0.001);
+    }
+
+    @Test
+    void testPersistentCacheUnboundedByDefault() {
+        Session session = mock(Session.class);
+        when(session.getUserProperties()).thenReturn(Map.of());
+        DefaultRequestCacheFactory factory = new DefaultRequestCacheFactory();
+        DefaultRequestCache cache = (DefaultRequestCache) factory.createCache();
+        AtomicInteger executions = new AtomicInteger();
+
+        for (int i = 0; i < 100; i++) {
+            cache.request(new TestRequest(session, "r" + (i % 10)), r -> execute(r, executions));
+        }
+
+        assertEquals(10, executions.get());
+        CacheStatistics stats = factory.getStatistics().get(TestRequest.class);
+        assertEquals(90, stats.hits());
+        assertEquals(0, stats.evictions());
+    }
+
+    @Test
+    void testBatchRequests() throws Exception {
+        Session session = mock(Session.class);
+        when(session.getUserProperties()).thenReturn(Map.of());
+        DefaultRequestCache cache = new DefaultRequestCache();
+        AtomicInteger executions = new AtomicInteger();
+        Function<List<TestRequest>, List<TestResult>> supplier =
+                reqs -> reqs.stream().map(r -> execute(r, executions)).toList();
+
+        List<TestRequest> first = List.of(new TestRequest(session, "a"), new TestRequest(session, "b"));
+        List<TestRequest> second = List.of(new TestRequest(session, "b"), new TestRequest(session, "c"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletionStage<List<TestResult>> firstResults = cache.requestsAsync(first, supplier, executor);
+            List<TestResult> secondResults = cache.requests(second, supplier);
+
+            assertEquals(
+                    first,
+                    firstResults.toCompletableFuture().get().stream()
+                            .map(TestResult::getRequest)
+                            .toList());
+            assertEquals(
+                    second, secondResults.stream().map(TestResult::getRequest).toList());
+            assertEquals(3, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrentBatchesClaimingSupplierCreatedByOtherBatch() throws Exception {
+        Session session = mock(Session.class);
+        AtomicInteger executions = new AtomicInteger();
+        Function<List<TestRequest>, List<TestResult>> supplier =
+                reqs -> reqs.stream().map(r -> execute(r, executions)).toList();
+        CountDownLatch created = new CountDownLatch(1);
+        CountDownLatch claimed = new CountDownLatch(1);
+        // the first batch creates the cached supplier of b, which is claimed by the second batch
+        DefaultRequestCache cache = new DefaultRequestCache() {
+            @Override
+            protected <REQ extends Request<?>, REP extends Result<REQ>> CachingSupplier<REQ, REP> doCache(
+                    REQ req, Function<REQ, REP> supplier) {
+                CachingSupplier<REQ, REP> cs = super.doCache(req, supplier);
+                String id = ((TestRequest) req).id();
+                try {
+                    if (id.equals("b") && created.getCount() > 0) {
+                        created.countDown();
+                        claimed.await(10, TimeUnit.SECONDS);
+                    } else if (id.equals("c")) {
+                        claimed.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return cs;
+            }
+        };
+
+        List<TestRequest> first = List.of(new TestRequest(session, "a"), new TestRequest(session, "b"));
+        List<TestRequest> second = List.of(new TestRequest(session, "b"), new TestRequest(session, "c"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<TestResult>> firstResults = executor.submit(() -> cache.requests(first, supplier));
+            assertTrue(created.await(10, TimeUnit.SECONDS));
+            Future<List<TestResult>> secondResults = executor.submit(() -> cache.requests(second, supplier));
+
+            assertEquals(
+                    first,
+                    firstResults.get(10, TimeUnit.SECONDS).stream()
+                            .map(TestResult::getRequest)
+                            .toList());
+            assertEquals(
+                    second,
+                    secondResults.get(10, TimeUnit.SECONDS).stream()
+                            .map(TestResult::getRequest)
+                            .toList());
+            assertEquals(3, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAsyncBatchRequestsFailure() {
+        Session session = mock(Session.class);
+        DefaultRequestCache cache = new DefaultRequestCache();
+        List<TestRequest> reqs = List.of(new TestRequest(session, "a"), new TestRequest(session, "b"));
+
+        CompletionStage<List<TestResult>> results = cache.requestsAsync(
+                reqs,
+                r -> {
+                    throw new IllegalStateException("failed");
+                },
+                Runnable::run);
+
+        ExecutionException e = assertThrows(
+                ExecutionException.class, () -> results.toCompletableFuture().get());
+        assertInstanceOf(BatchRequestException.class, e.getCause());
+    }
+
+    @Test
+    void testBatchRequestsFailure() {
+        Session session = mock(Session.class);
+        DefaultRequestCache cache = new DefaultRequestCache();
+        List<TestRequest> reqs = List.of(new TestRequest(session, "a"), new TestRequest(session, "b"));
+
+        BatchRequestException e = assertThrows(
+                BatchRequestException.class,
+                () -> cache.requests(reqs, r -> {
+                    throw new MavenExecutionException(new IllegalStateException("failed"));
+                }));
+        assertEquals(2, e.getResults().size());
+        assertInstanceOf(IllegalStateException.class, e.getResults().get(0).error());
+
+        // the failure is cached
+        assertThrows(IllegalStateException.class, () -> cache.request(reqs.get(1), r -> new TestResult(r)));
+    }
+
+    @Test
+    void testBatchRequestsErrorIsCached() {
+        Session session = mock(Session.class);
+        DefaultRequestCache cache = new DefaultRequestCache();
+        List<TestRequest> reqs = List.of(new TestRequest(session, "a"), new TestRequest(session, "b"));
+
+        assertThrows(
+                LinkageError.class,
+                () -> cache.requests(reqs, r -> {
+                    throw new LinkageError("failed");
+                }));
+
+        assertThrows(LinkageError.class, () -> cache.request(reqs.get(1), r -> new TestResult(r)));
+    }
+
+    @Test
+    void testInterruptedWaitIsNotCached() throws Exception {
+        Session session = mock(Session.class);
+        DefaultRequestCache cache = new DefaultRequestCache();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        TestRequest req = new TestRequest(session, "a");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletionStage<List<TestResult>> results = cache.requestsAsync(
+                    List.of(req),
+                    reqs -> {
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return reqs.stream().map(r -> execute(r, executions)).toList();
+                    },
+                    executor);
+
+            Future<TestResult> waiter = executor.submit(() -> {
+                Thread.currentThread().interrupt();
+                return cache.request(req, r -> execute(r, executions));
+            });
+            ExecutionException e = assertThrows(ExecutionException.class, () -> waiter.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(CachingSupplier.InterruptedRequestException.class, e.getCause());
+
+            release.countDown();
+            assertEquals(
+                    List.of(new TestResult(req)), results.toCompletableFuture().get(10, TimeUnit.SECONDS));
+            assertEquals(new TestResult(req), cache.request(req, r -> execute(r, executions)));
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static TestResult execute(TestRequest request, AtomicInteger executions) {
+        executions.incrementAndGet();
+        return new TestResult(request);
+    }
+
+    record TestRequest(Session getSession, String id) implements Request<Session>, CacheMetadata {
+        @Override
+        public RequestTrace getTrace() {
+            return null;
+        }
+
+        @Override
+        public CacheRetention getCacheRetention() {
+            return CacheRetention.PERSISTENT;
+        }
+    }
+
+    record TestResult(TestRequest getRequest) implements Result<TestRequest> {}
+}
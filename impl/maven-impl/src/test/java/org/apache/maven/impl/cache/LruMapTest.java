@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LruMapTest {
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        List<String> evicted = new ArrayList<>();
+        LruMap<String, String> map = new LruMap<>(2, evicted::add);
+
+        map.put("a", "A");
+        map.computeIfAbsent("b", String::toUpperCase);
+        map.get("a");
+        map.put("c", "C");
+
+        assertEquals(List.of("b"), evicted);
+        assertEquals(Map.of("a", "A", "c", "C"), Map.copyOf(map));
+
+        map.computeIfAbsent("a", k -> "other");
+        map.computeIfAbsent("d", String::toUpperCase);
+
+        assertEquals(List.of("b", "c"), evicted);
+        assertTrue(map.containsKey("a"));
+        assertFalse(map.containsKey("c"));
+    }
+
+    @Test
+    void shouldRejectInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LruMap<>(0, k -> {}));
+    }
+
+    @Test
+    void shouldStayBoundedUnderConcurrentAccess() throws Exception {
+        int threadCount = 8;
+        AtomicInteger evictions = new AtomicInteger();
+        LruMap<Integer, Integer> map = new LruMap<>(16, k -> evictions.incrementAndGet());
+        CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            int offset = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int j = 0; j < 1000; j++) {
+                        map.computeIfAbsent((j * threadCount + offset) % 64, k -> k);
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(map.size() <= 16, "size " + map.size());
+        map.forEach((k, v) -> assertEquals(k, v));
+        assertTrue(evictions.get() > 0);
+    }
+}
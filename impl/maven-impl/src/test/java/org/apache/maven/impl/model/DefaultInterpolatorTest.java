@@ -20,7 +20,9 @@
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BinaryOperator;
 import java.util.function.UnaryOperator;
 
 import org.apache.maven.api.services.InterpolatorException;
@@ -57,6 +59,48 @@ void testBasicSubstitutionWithContext() {
         assertEquals("sub_value1", props.get("key1"));
     }
 
+    @Test
+    void testCompiledTemplatesMatchSubstitution() {
+        Map<String, String> props = new HashMap<>();
+        props.put("a", "va");
+        props.put("b", "${a}-vb");
+        props.put("c", "");
+        props.put("d", "x\\}y\\");
+        props.put("e", "$z");
+        props.put("f", "${missing}");
+        UnaryOperator<String> callback = props::get;
+        BinaryOperator<String> postprocessor = (e, v) -> "a".equals(e) ? v.toUpperCase() : v;
+        DefaultInterpolator interpolator = new DefaultInterpolator();
+
+        for (String value : List.of(
+                "plain",
+                "${a}",
+                "x${a}y${b}z",
+                "${c}${missing}",
+                "${d}}",
+                "{${a}}",
+                "x}${a}",
+                "${e}",
+                "${f}",
+                "$${a}",
+                "\\${a}",
+                "${a:-d}",
+                "${${a}}",
+                "${a")) {
+            for (boolean defaultsToEmpty : new boolean[] {false, true}) {
+                assertEquals(
+                        DefaultInterpolator.substVars(
+                                value, null, null, null, callback, postprocessor, defaultsToEmpty),
+                        interpolator.interpolate(value, callback, postprocessor, defaultsToEmpty),
+                        value);
+                assertEquals(
+                        DefaultInterpolator.substVars(value, null, null, null, callback, null, defaultsToEmpty),
+                        interpolator.interpolate(value, callback, null, defaultsToEmpty),
+                        value);
+            }
+        }
+    }
+
     @Test
     void testSubstitutionFailures() {
         assertEquals("a}", substVars("a}", "b"));
@@ -24,7 +24,10 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.RemoteRepository;
 import org.apache.maven.api.Session;
 import org.apache.maven.api.model.Model;
@@ -34,11 +37,17 @@
 import org.apache.maven.api.services.ModelBuilderResult;
 import org.apache.maven.api.services.Sources;
 import org.apache.maven.impl.standalone.ApiRunner;
+import org.apache.maven.impl.util.PhasingExecutor;
+import org.apache.maven.impl.util.VirtualThreads;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  *
@@ -114,6 +123,72 @@ public void testMergeRepositories() throws Exception {
         assertEquals("central", repositories.get(2).getId()); // default
     }
 
+    @Test
+    void testVirtualThreadsFallBackToPlatformThreads() {
+        ModelBuilderRequest request = request(Map.of(Constants.MAVEN_MODEL_BUILDER_VIRTUAL_THREADS, "true"));
+
+        assertTrue(DefaultModelBuilder.ModelBuilderSessionState.useVirtualThreads(request, true));
+        assertFalse(DefaultModelBuilder.ModelBuilderSessionState.useVirtualThreads(request, false));
+        assertFalse(DefaultModelBuilder.ModelBuilderSessionState.useVirtualThreads(request(Map.of()), true));
+    }
+
+    @Test
+    void testPlatformThreadsDoNotBoundCpuTasks() throws Exception {
+        DefaultModelBuilder.ModelBuilderSessionState state =
+                ((DefaultModelBuilder) builder).new ModelBuilderSessionState(request(Map.of()));
+
+        assertNull(state.cpuPermits);
+        try (PhasingExecutor executor = state.createExecutor()) {
+            CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+            executor.execute(() -> virtual.complete(isVirtual(Thread.currentThread())));
+            assertFalse(virtual.get());
+        }
+    }
+
+    @Test
+    void testCpuBoundTasksAreLimitedToParallelism() {
+        assumeTrue(VirtualThreads.isAvailable());
+        int parallelism = Math.min(2, Runtime.getRuntime().availableProcessors());
+        DefaultModelBuilder.ModelBuilderSessionState state =
+                ((DefaultModelBuilder) builder).new ModelBuilderSessionState(request(Map.of(
+                        Constants.MAVEN_MODEL_BUILDER_VIRTUAL_THREADS,
+                        "true",
+                        Constants.MAVEN_MODEL_BUILDER_PARALLELISM,
+                        "2")));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        try (PhasingExecutor executor = state.createExecutor()) {
+            for (int i = 0; i < 16; i++) {
+                executor.execute(() -> state.cpuBound(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                }));
+            }
+        }
+
+        assertEquals(parallelism, state.cpuPermits.availablePermits());
+        assertTrue(maxRunning.get() <= parallelism, "max running " + maxRunning.get());
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        return thread.getClass().getName().equals("java.lang.VirtualThread");
+    }
+
+    private ModelBuilderRequest request(Map<String, String> userProperties) {
+        return ModelBuilderRequest.builder()
+                .session(session)
+                .userProperties(userProperties)
+                .requestType(ModelBuilderRequest.RequestType.BUILD_PROJECT)
+                .source(Sources.buildSource(getPom("props-and-profiles")))
+                .build();
+    }
+
     private Path getPom(String name) {
         return Paths.get("src/test/resources/poms/factory/" + name + ".xml").toAbsolutePath();
     }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.api.model.Model;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PersistentModelCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    private final PersistentModelCache.ModelReader reader = is -> {
+        reads.incrementAndGet();
+        return Model.newBuilder()
+                .artifactId(new String(is.readAllBytes(), StandardCharsets.UTF_8))
+                .build();
+    };
+
+    @Test
+    void testUnchangedPomIsNotReadAgain() throws Exception {
+        Path pom = write("first");
+        PersistentModelCache cache = new PersistentModelCache(tempDir.resolve("cache"));
+
+        assertEquals("first", cache.read(pom, "key", reader).getArtifactId());
+        assertEquals(
+                "first",
+                new PersistentModelCache(tempDir.resolve("cache"))
+                        .read(pom, "key", reader)
+                        .getArtifactId());
+        assertEquals(1, reads.get());
+
+        // touching the POM without modifying it keeps the entry
+        Files.setLastModifiedTime(pom, FileTime.fromMillis(0));
+        assertEquals("first", cache.read(pom, "key", reader).getArtifactId());
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testModifiedPomIsReadAgain() throws Exception {
+        Path pom = write("first");
+        PersistentModelCache cache = new PersistentModelCache(tempDir.resolve("cache"));
+        cache.read(pom, "key", reader);
+
+        write("other");
+        Files.setLastModifiedTime(pom, FileTime.fromMillis(0));
+        assertEquals("other", cache.read(pom, "key", reader).getArtifactId());
+        assertEquals(2, reads.get());
+
+        // a different key does not share the entry
+        cache.read(pom, "another key", reader);
+        assertEquals(3, reads.get());
+    }
+
+    @Test
+    void testCorruptedEntryIsIgnored() throws Exception {
+        Path pom = write("first");
+        Path dir = tempDir.resolve("cache");
+        new PersistentModelCache(dir).read(pom, "key", reader);
+        try (var entries = Files.walk(dir)) {
+            for (Path entry : entries.filter(Files::isRegularFile).toList()) {
+                Files.write(entry, new byte[] {1, 2, 3});
+            }
+        }
+
+        assertEquals(
+                "first", new PersistentModelCache(dir).read(pom, "key", reader).getArtifactId());
+        assertEquals(2, reads.get());
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("pom.xml"), content);
+    }
+}
@@ -43,8 +43,10 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * ReflectionValueExtractorTest class.
@@ -347,6 +349,37 @@ public void testArtifactMap() throws Exception {
                         .getClassifier());
     }
 
+    /**
+     * <p>testSameExpressionOnDifferentTypes.</p>
+     *
+     * @throws Exception if any.
+     */
+    @Test
+    public void testSameExpressionOnDifferentTypes() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            Artifact artifact = new Artifact("g0", "a0", "v0", "e0", "c0");
+            Dependency dependency = project.getDependencies().get(0);
+            assertEquals("a0", ReflectionValueExtractor.evaluate("h.value.artifactId", new ValueHolder(artifact)));
+            assertEquals("dep1", ReflectionValueExtractor.evaluate("h.value.artifactId", new ValueHolder(dependency)));
+            assertNull(ReflectionValueExtractor.evaluate("h.value.artifactId", new ValueHolder("string")));
+        }
+    }
+
+    /**
+     * <p>testAccessorFailures.</p>
+     *
+     * @throws Exception if any.
+     */
+    @Test
+    public void testAccessorFailures() throws Exception {
+        IntrospectionException e = assertThrows(
+                IntrospectionException.class,
+                () -> ReflectionValueExtractor.evaluate("h.exception", new FailingHolder()));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+
+        assertThrows(LinkageError.class, () -> ReflectionValueExtractor.evaluate("h.error", new FailingHolder()));
+    }
+
     public static class Artifact {
         private String groupId;
 
@@ -559,6 +592,16 @@ public Object getValue() {
         }
     }
 
+    public static class FailingHolder {
+        public Object getException() {
+            throw new IllegalStateException("exception");
+        }
+
+        public Object getError() {
+            throw new LinkageError("error");
+        }
+    }
+
     /**
      * <p>testRootPropertyRegression.</p>
      *
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadsTest {
+
+    @Test
+    void testNotAvailableBeforeJava21() {
+        assertNull(VirtualThreads.lookup(17));
+        assertNull(VirtualThreads.lookup(20));
+        assertNotNull(VirtualThreads.lookup(21));
+    }
+
+    @Test
+    void testAvailableOnRunningJvm() throws Exception {
+        assertEquals(Runtime.version().feature() >= 21, VirtualThreads.isAvailable());
+        if (VirtualThreads.isAvailable()) {
+            ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+            try {
+                Future<Boolean> virtual = executor.submit(() -> isVirtual(Thread.currentThread()));
+                assertTrue(virtual.get());
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    // Thread.isVirtual() is not available when compiling for Java 17
+    static boolean isVirtual(Thread thread) {
+        return thread.getClass().getName().equals("java.lang.VirtualThread");
+    }
+}
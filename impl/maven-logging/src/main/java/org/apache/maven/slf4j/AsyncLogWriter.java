@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.slf4j;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.maven.api.Constants;
+
+/**
+ * Writes log output from a single background thread, so that logging threads only enqueue the
+ * already formatted text and do not contend on the output stream. Queued text is written in batches
+ * to each target, which is flushed once per batch. A batch is written when 512 entries are
+ * pending or 20 ms after the previous one. When more than 8192 entries are pending, the logging
+ * thread writes the pending entries itself, which bounds the memory used by the queue.
+ * <p>
+ * Pending entries are written by {@link #flush()}, by {@link #close()} and by a shutdown hook,
+ * so that no output is lost when the build fails or the JVM exits. Once closed, text is written
+ * synchronously by the logging thread.
+ *
+ * @see Constants#MAVEN_LOGGER_ASYNC
+ * @since 4.0.0
+ */
+public class AsyncLogWriter implements AutoCloseable {
+
+    static final int BATCH_SIZE = 512;
+
+    static final int CAPACITY = 8192;
+
+    static final long FLUSH_INTERVAL_MILLIS = 20;
+
+    private static final int MAX_CHUNK_LENGTH = 8192;
+
+    /**
+     * A destination of log output.
+     */
+    public interface Target {
+
+        /**
+         * Writes the given text, without flushing.
+         *
+         * @param text the text to write
+         */
+        void print(String text);
+
+        /**
+         * Flushes the text written so far.
+         */
+        void flush();
+
+        /**
+         * Returns a target writing to the given stream. Targets created for the same stream are equal.
+         *
+         * @param stream the stream to write to
+         * @return the target
+         */
+        static Target of(PrintStream stream) {
+            return new StreamTarget(stream);
+        }
+    }
+
+    private record StreamTarget(PrintStream stream) implements Target {
+        @Override
+        public void print(String text) {
+            stream.print(text);
+        }
+
+        @Override
+        public void flush() {
+            stream.flush();
+        }
+    }
+
+    private record Entry(Target target, String text) {}
+
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Object lock = new Object();
+
+    private final Thread writer;
+
+    private final Thread shutdownHook;
+
+    private volatile boolean closed;
+
+    public AsyncLogWriter() {
+        writer = new Thread(this::run, "maven-logger");
+        writer.setDaemon(true);
+        writer.start();
+        shutdownHook = new Thread(this::flush, "maven-logger-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Queues the given text to be written to the target. The text must include the trailing line separator.
+     *
+     * @param target the target to write to
+     * @param text the text to write
+     */
+    public void write(Target target, String text) {
+        queue.add(new Entry(target, text));
+        int count = pending.incrementAndGet();
+        if (closed || count > CAPACITY) {
+            flush();
+        } else if (count == BATCH_SIZE) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Writes all pending text and flushes the targets it was written to.
+     */
+    public void flush() {
+        synchronized (lock) {
+            List<Target> written = new ArrayList<>(2);
+            StringBuilder chunk = new StringBuilder();
+            Target current = null;
+            Entry entry;
+            while ((entry = queue.poll()) != null) {
+                pending.decrementAndGet();
+                if (!entry.target().equals(current) || chunk.length() >= MAX_CHUNK_LENGTH) {
+                    print(current, chunk);
+                    current = entry.target();
+                    if (!written.contains(current)) {
+                        written.add(current);
+                    }
+                }
+                chunk.append(entry.text());
+            }
+            print(current, chunk);
+            written.forEach(Target::flush);
+        }
+    }
+
+    private static void print(Target target, StringBuilder chunk) {
+        if (target != null && !chunk.isEmpty()) {
+            target.print(chunk.toString());
+        }
+        chunk.setLength(0);
+    }
+
+    /**
+     * Writes all pending text and stops the background thread; text written afterward is written synchronously.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        flush();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // the JVM is shutting down and the hook flushes anyway
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    private void run() {
+        long interval = TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MILLIS);
+        while (!closed) {
+            LockSupport.parkNanos(this, interval);
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                // keep the writer alive, the output of the failed batch is lost
+            }
+        }
+    }
+}
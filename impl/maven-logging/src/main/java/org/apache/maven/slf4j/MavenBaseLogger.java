@@ -18,6 +18,7 @@
  */
 package org.apache.maven.slf4j;
 
+import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -101,6 +102,10 @@
  * <li><code>maven.logger.warnLevelString</code> - The string value
  * output for the warn level. Defaults to <code>WARN</code>.</li>
  *
+ * <li><code>maven.logger.async</code> - Set to <code>true</code> to write
+ * log output from a background thread, in batches, instead of from the logging
+ * threads. Defaults to <code>false</code>.</li>
+ *
  * </ul>
  *
  * <p>
@@ -218,7 +223,8 @@ String recursivelyComputeLevelString() {
 
     /**
      * To avoid intermingling of log messages and associated stack traces, the two
-     * operations are done in a synchronized block.
+     * operations are done in a synchronized block, or queued together to the
+     * {@link AsyncLogWriter} if asynchronous output is enabled.
      *
      * @param buf   The StringBuilder containing the log message to be written
      * @param t     The Throwable object whose stack trace should be written, may be null
@@ -226,6 +232,20 @@ String recursivelyComputeLevelString() {
     protected void write(StringBuilder buf, Throwable t) {
         PrintStream targetStream = CONFIG_PARAMS.outputChoice.getTargetPrintStream();
 
+        AsyncLogWriter asyncWriter = CONFIG_PARAMS.asyncWriter;
+        if (asyncWriter != null) {
+            buf.append(System.lineSeparator());
+            if (t != null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                PrintStream stream = new PrintStream(out);
+                writeThrowable(t, stream);
+                stream.flush();
+                buf.append(out.toString());
+            }
+            asyncWriter.write(AsyncLogWriter.Target.of(targetStream), buf.toString());
+            return;
+        }
+
         synchronized (CONFIG_PARAMS) {
             targetStream.println(buf.toString());
             writeThrowable(t, targetStream);
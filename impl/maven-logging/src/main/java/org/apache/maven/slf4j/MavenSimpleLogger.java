@@ -47,6 +47,15 @@ public static void setLogSink(Consumer<String> logSink) {
         MavenSimpleLogger.logSink = logSink;
     }
 
+    /**
+     * Returns the writer used for asynchronous log output, or {@code null} if it is not enabled.
+     *
+     * @see org.apache.maven.api.Constants#MAVEN_LOGGER_ASYNC
+     */
+    public static AsyncLogWriter getAsyncWriter() {
+        return CONFIG_PARAMS.asyncWriter;
+    }
+
     MavenSimpleLogger(String name) {
         super(name);
     }
@@ -86,6 +86,9 @@ public class SimpleLoggerConfiguration {
     private static final boolean CACHE_OUTPUT_STREAM_DEFAULT = false;
     private boolean cacheOutputStream = CACHE_OUTPUT_STREAM_DEFAULT;
 
+    private static final boolean ASYNC_DEFAULT = false;
+    volatile AsyncLogWriter asyncWriter = null;
+
     private static final String WARN_LEVELS_STRING_DEFAULT = "WARN";
     String warnLevelString = WARN_LEVELS_STRING_DEFAULT;
 
@@ -119,6 +122,16 @@ void init() {
         cacheOutputStream = getBooleanProperty(Constants.MAVEN_LOGGER_CACHE_OUTPUT_STREAM, CACHE_OUTPUT_STREAM_DEFAULT);
         outputChoice = computeOutputChoice(logFile, cacheOutputStream);
 
+        boolean async = getBooleanProperty(Constants.MAVEN_LOGGER_ASYNC, ASYNC_DEFAULT);
+        if (async && (asyncWriter == null || asyncWriter.isClosed())) {
+            // the writer of a previous invocation may have been closed
+            asyncWriter = new AsyncLogWriter();
+        } else if (!async && asyncWriter != null) {
+            AsyncLogWriter writer = asyncWriter;
+            asyncWriter = null;
+            writer.close();
+        }
+
         if (dateTimeFormatStr != null) {
             try {
                 dateFormatter = DateTimeFormatter.ofPattern(dateTimeFormatStr);
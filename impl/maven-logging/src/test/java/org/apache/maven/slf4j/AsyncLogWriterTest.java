@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AsyncLogWriterTest {
+
+    @Test
+    void testOutputOfEachThreadIsWrittenInOrder() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AsyncLogWriter.Target target = AsyncLogWriter.Target.of(new PrintStream(output, false, UTF_8));
+        int threads = 4;
+        int messages = 5000;
+
+        try (AsyncLogWriter writer = new AsyncLogWriter()) {
+            List<Thread> loggers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String name = "t" + t;
+                loggers.add(new Thread(() -> {
+                    for (int i = 0; i < messages; i++) {
+                        writer.write(target, name + " " + i + "\n");
+                    }
+                }));
+            }
+            loggers.forEach(Thread::start);
+            for (Thread logger : loggers) {
+                logger.join();
+            }
+        }
+
+        int[] next = new int[threads];
+        for (String line : output.toString(UTF_8).split("\n")) {
+            String[] parts = line.split(" ");
+            int thread = Integer.parseInt(parts[0].substring(1));
+            assertEquals(next[thread]++, Integer.parseInt(parts[1]));
+        }
+        for (int t = 0; t < threads; t++) {
+            assertEquals(messages, next[t]);
+        }
+    }
+
+    @Test
+    void testTextIsWrittenSynchronouslyOnceClosed() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AsyncLogWriter.Target target = AsyncLogWriter.Target.of(new PrintStream(output, false, UTF_8));
+        AsyncLogWriter writer = new AsyncLogWriter();
+        writer.write(target, "before\n");
+        writer.close();
+        assertEquals("before\n", output.toString(UTF_8));
+
+        writer.write(target, "after\n");
+        assertEquals("before\nafter\n", output.toString(UTF_8));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.model.v4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.api.model.InputLocation;
+import org.apache.maven.api.model.InputSource;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Source;
+import org.apache.maven.api.xml.XmlNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MavenBinaryReaderTest {
+
+    private static final String XML = "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+            + "  <modelVersion>4.0.0</modelVersion>\n"
+            + "  <groupId>org.apache.maven.test</groupId>\n"
+            + "  <artifactId>binary</artifactId>\n"
+            + "  <version>1.0</version>\n"
+            + "  <properties>\n"
+            + "    <key>value</key>\n"
+            + "  </properties>\n"
+            + "  <dependencies>\n"
+            + "    <dependency>\n"
+            + "      <groupId>org.apache.maven.test</groupId>\n"
+            + "      <artifactId>dependency</artifactId>\n"
+            + "      <version>1.0</version>\n"
+            + "      <optional>true</optional>\n"
+            + "    </dependency>\n"
+            + "  </dependencies>\n"
+            + "  <build>\n"
+            + "    <plugins>\n"
+            + "      <plugin>\n"
+            + "        <artifactId>maven-test-plugin</artifactId>\n"
+            + "        <configuration>\n"
+            + "          <items combine.children=\"append\">\n"
+            + "            <item>a</item>\n"
+            + "            <item>b</item>\n"
+            + "          </items>\n"
+            + "        </configuration>\n"
+            + "      </plugin>\n"
+            + "    </plugins>\n"
+            + "  </build>\n"
+            + "</project>";
+
+    @Test
+    void testRoundTrip() throws Exception {
+        Model model = fromXml(XML);
+
+        Model copy = fromBinary(toBinary(model, true), true);
+
+        assertEquals(toXml(model), toXml(copy));
+        assertEquals(model.getNamespaceUri(), copy.getNamespaceUri());
+        assertEquals("value", copy.getProperties().get("key"));
+        XmlNode configuration = copy.getBuild().getPlugins().get(0).getConfiguration();
+        assertEquals("append", configuration.child("items").attribute("combine.children"));
+        assertEquals(2, configuration.child("items").children().size());
+    }
+
+    @Test
+    void testSourcesRoundTrip() throws Exception {
+        Model model = fromXml("<project xmlns=\"http://maven.apache.org/POM/4.1.0\">\n"
+                + "  <modelVersion>4.1.0</modelVersion>\n"
+                + "  <groupId>org.apache.maven.test</groupId>\n"
+                + "  <artifactId>binary</artifactId>\n"
+                + "  <version>1.0</version>\n"
+                + "  <build>\n"
+                + "    <sources>\n"
+                + "      <source>\n"
+                + "        <scope>test</scope>\n"
+                + "        <lang>java</lang>\n"
+                + "        <module>org.foo.bar</module>\n"
+                + "        <directory>src/test/java</directory>\n"
+                + "        <targetVersion>21</targetVersion>\n"
+                + "        <includes>\n"
+                + "          <include>**/*.java</include>\n"
+                + "        </includes>\n"
+                + "        <stringFiltering>true</stringFiltering>\n"
+                + "        <enabled>false</enabled>\n"
+                + "      </source>\n"
+                + "    </sources>\n"
+                + "  </build>\n"
+                + "</project>");
+
+        Model copy = fromBinary(toBinary(model, true), true);
+
+        assertEquals(toXml(model), toXml(copy));
+        Source source = copy.getBuild().getSources().get(0);
+        assertEquals("test", source.getScope());
+        assertEquals("org.foo.bar", source.getModule());
+        assertEquals("21", source.getTargetVersion());
+        assertEquals(List.of("**/*.java"), source.getIncludes());
+        assertTrue(source.isStringFiltering());
+        assertFalse(source.isEnabled());
+        assertEquals(11, source.getLocation("module").getLineNumber());
+    }
+
+    @Test
+    void testLocationsAreRetained() throws Exception {
+        Model copy = fromBinary(toBinary(fromXml(XML), true), true);
+
+        InputLocation location = copy.getLocation("artifactId");
+        assertEquals(4, location.getLineNumber());
+        assertEquals("org.apache.maven.test:binary:1.0", location.getSource().getModelId());
+        InputLocation dependencyLocation = copy.getDependencies().get(0).getLocation("optional");
+        assertEquals(14, dependencyLocation.getLineNumber());
+        assertSame(location.getSource(), dependencyLocation.getSource());
+        XmlNode items = copy.getBuild().getPlugins().get(0).getConfiguration().child("items");
+        assertEquals(22, ((InputLocation) items.inputLocation()).getLineNumber());
+    }
+
+    @Test
+    void testLocationsAreOptional() throws Exception {
+        Model model = fromXml(XML);
+
+        assertNull(fromBinary(toBinary(model, false), true).getLocation("artifactId"));
+        assertNull(fromBinary(toBinary(model, true), false).getLocation("artifactId"));
+        assertEquals(toXml(model, false), toXml(fromBinary(toBinary(model, false), true)));
+    }
+
+    @Test
+    void testInvalidContentThrows() throws Exception {
+        byte[] content = toBinary(fromXml(XML), true);
+
+        assertThrows(IOException.class, () -> fromBinary("<project/>".getBytes(), true));
+        assertThrows(IOException.class, () -> fromBinary(Arrays.copyOf(content, content.length / 2), true));
+    }
+
+    private static Model fromXml(String xml) throws Exception {
+        InputSource source = new InputSource("org.apache.maven.test:binary:1.0", "pom.xml");
+        return new MavenStaxReader().read(new StringReader(xml), true, source);
+    }
+
+    private static String toXml(Model model) throws Exception {
+        return toXml(model, true);
+    }
+
+    private static String toXml(Model model, boolean locations) throws Exception {
+        StringWriter writer = new StringWriter();
+        MavenStaxWriter xmlWriter = new MavenStaxWriter();
+        xmlWriter.setAddLocationInformation(locations);
+        xmlWriter.write(writer, model);
+        return writer.toString();
+    }
+
+    private static byte[] toBinary(Model model, boolean locations) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        MavenBinaryWriter writer = new MavenBinaryWriter();
+        writer.setAddLocationInformation(locations);
+        writer.write(output, model);
+        return output.toByteArray();
+    }
+
+    private static Model fromBinary(byte[] content, boolean locations) throws IOException {
+        MavenBinaryReader reader = new MavenBinaryReader();
+        reader.setAddLocationInformation(locations);
+        return reader.read(new ByteArrayInputStream(content));
+    }
+}
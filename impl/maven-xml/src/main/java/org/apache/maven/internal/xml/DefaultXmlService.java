@@ -29,15 +29,12 @@
 import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.maven.api.annotations.Nonnull;
 import org.apache.maven.api.annotations.Nullable;
@@ -48,20 +45,47 @@
 public class DefaultXmlService extends XmlService {
     private static final boolean DEFAULT_TRIM = true;
 
+    // factories are thread-safe once configured, so create them only once
+    static class InputFactoryHolder {
+        static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+    }
+
+    static class OutputFactoryHolder {
+        static final XMLOutputFactory XML_OUTPUT_FACTORY;
+
+        static {
+            XMLOutputFactory factory = new com.ctc.wstx.stax.WstxOutputFactory();
+            factory.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, false);
+            factory.setProperty(com.ctc.wstx.api.WstxOutputProperties.P_USE_DOUBLE_QUOTES_IN_XML_DECL, true);
+            factory.setProperty(com.ctc.wstx.api.WstxOutputProperties.P_ADD_SPACE_AFTER_EMPTY_ELEM, true);
+            XML_OUTPUT_FACTORY = factory;
+        }
+    }
+
     @Nonnull
     @Override
     public XmlNode doRead(InputStream input, @Nullable XmlService.InputLocationBuilder locationBuilder)
             throws XMLStreamException {
-        XMLStreamReader parser = XMLInputFactory.newFactory().createXMLStreamReader(input);
-        return doRead(parser, locationBuilder);
+        XMLStreamReader parser = InputFactoryHolder.XML_INPUT_FACTORY.createXMLStreamReader(input);
+        try {
+            return doRead(parser, locationBuilder);
+        } finally {
+            // releases the parser buffers for reuse, the underlying stream is not closed
+            parser.close();
+        }
     }
 
     @Nonnull
     @Override
     public XmlNode doRead(Reader reader, @Nullable XmlService.InputLocationBuilder locationBuilder)
             throws XMLStreamException {
-        XMLStreamReader parser = XMLInputFactory.newFactory().createXMLStreamReader(reader);
-        return doRead(parser, locationBuilder);
+        XMLStreamReader parser = InputFactoryHolder.XML_INPUT_FACTORY.createXMLStreamReader(reader);
+        try {
+            return doRead(parser, locationBuilder);
+        } finally {
+            // releases the parser buffers for reuse, the underlying stream is not closed
+            parser.close();
+        }
     }
 
     @Nonnull
@@ -147,11 +171,8 @@ private XmlNode doBuild(XMLStreamReader parser, boolean trim, InputLocationBuild
     @Override
     public void doWrite(XmlNode node, Writer writer) throws IOException {
         try {
-            XMLOutputFactory factory = new com.ctc.wstx.stax.WstxOutputFactory();
-            factory.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, false);
-            factory.setProperty(com.ctc.wstx.api.WstxOutputProperties.P_USE_DOUBLE_QUOTES_IN_XML_DECL, true);
-            factory.setProperty(com.ctc.wstx.api.WstxOutputProperties.P_ADD_SPACE_AFTER_EMPTY_ELEM, true);
-            XMLStreamWriter serializer = new IndentingXMLStreamWriter(factory.createXMLStreamWriter(writer));
+            XMLStreamWriter serializer =
+                    new IndentingXMLStreamWriter(OutputFactoryHolder.XML_OUTPUT_FACTORY.createXMLStreamWriter(writer));
             writeNode(serializer, node);
             serializer.close();
         } catch (XMLStreamException e) {
@@ -222,6 +243,10 @@ public XmlNode doMerge(XmlNode dominant, XmlNode recessive, Boolean childMergeOv
         if (dominant == null) {
             return recessive;
         }
+        if (dominant == recessive && !Boolean.FALSE.equals(childMergeOverride) && isSelfMergeNoop(dominant)) {
+            // typically interned nodes shared by the parent and child configurations
+            return dominant;
+        }
 
         boolean mergeSelf = true;
 
@@ -259,19 +284,20 @@ public XmlNode doMerge(XmlNode dominant, XmlNode recessive, Boolean childMergeOv
                     }
                 }
 
-                Map<String, Iterator<XmlNode>> commonChildren = new HashMap<>();
-                Set<String> names =
-                        recessive.children().stream().map(XmlNode::name).collect(Collectors.toSet());
-                for (String name : names) {
-                    List<XmlNode> dominantChildren = dominant.children().stream()
-                            .filter(n -> n.name().equals(name))
-                            .toList();
-                    if (!dominantChildren.isEmpty()) {
-                        commonChildren.put(name, dominantChildren.iterator());
-                    }
+                // index the dominant children once instead of scanning them for each recessive child
+                List<XmlNode> dominantChildren = dominant.children();
+                Map<String, List<Integer>> positionsByName = new HashMap<>();
+                for (int i = 0; i < dominantChildren.size(); i++) {
+                    positionsByName
+                            .computeIfAbsent(dominantChildren.get(i).name(), n -> new ArrayList<>())
+                            .add(i);
                 }
+                Map<String, Iterator<Integer>> commonChildren = new HashMap<>();
+                Map<String, XmlNode> dominantChildrenById = null;
+                Map<List<String>, XmlNode> dominantChildrenByKeys = null;
 
                 String keysValue = recessive.attribute(KEYS_COMBINATION_MODE_ATTRIBUTE);
+                String[] keys = !isEmpty(keysValue) ? keysValue.split(",") : null;
 
                 int recessiveChildIndex = 0;
                 for (XmlNode recessiveChild : recessive.children()) {
@@ -279,29 +305,22 @@ public XmlNode doMerge(XmlNode dominant, XmlNode recessive, Boolean childMergeOv
 
                     XmlNode childDom = null;
                     if (!isEmpty(idValue)) {
-                        for (XmlNode dominantChild : dominant.children()) {
-                            if (idValue.equals(dominantChild.attribute(ID_COMBINATION_MODE_ATTRIBUTE))) {
-                                childDom = dominantChild;
-                                // we have a match, so don't append but merge
-                                mergeChildren = true;
-                            }
+                        if (dominantChildrenById == null) {
+                            dominantChildrenById = indexById(dominantChildren);
                         }
-                    } else if (!isEmpty(keysValue)) {
-                        String[] keys = keysValue.split(",");
-                        Map<String, Optional<String>> recessiveKeyValues = Stream.of(keys)
-                                .collect(Collectors.toMap(
-                                        k -> k, k -> Optional.ofNullable(recessiveChild.attribute(k))));
-
-                        for (XmlNode dominantChild : dominant.children()) {
-                            Map<String, Optional<String>> dominantKeyValues = Stream.of(keys)
-                                    .collect(Collectors.toMap(
-                                            k -> k, k -> Optional.ofNullable(dominantChild.attribute(k))));
-
-                            if (recessiveKeyValues.equals(dominantKeyValues)) {
-                                childDom = dominantChild;
-                                // we have a match, so don't append but merge
-                                mergeChildren = true;
-                            }
+                        childDom = dominantChildrenById.get(idValue);
+                        if (childDom != null) {
+                            // we have a match, so don't append but merge
+                            mergeChildren = true;
+                        }
+                    } else if (keys != null) {
+                        if (dominantChildrenByKeys == null) {
+                            dominantChildrenByKeys = indexByKeys(dominantChildren, keys);
+                        }
+                        childDom = dominantChildrenByKeys.get(keyValues(recessiveChild, keys));
+                        if (childDom != null) {
+                            // we have a match, so don't append but merge
+                            mergeChildren = true;
                         }
                     } else {
                         childDom = dominant.child(recessiveChild.name());
@@ -309,34 +328,30 @@ public XmlNode doMerge(XmlNode dominant, XmlNode recessive, Boolean childMergeOv
 
                     if (mergeChildren && childDom != null) {
                         String name = recessiveChild.name();
-                        Iterator<XmlNode> it =
-                                commonChildren.computeIfAbsent(name, n1 -> Stream.of(dominant.children().stream()
-                                                .filter(n2 -> n2.name().equals(n1))
-                                                .collect(Collectors.toList()))
-                                        .filter(l -> !l.isEmpty())
-                                        .map(List::iterator)
-                                        .findFirst()
-                                        .orElse(null));
+                        Iterator<Integer> it = commonChildren.computeIfAbsent(name, n -> {
+                            List<Integer> positions = positionsByName.get(n);
+                            return positions != null ? positions.iterator() : null;
+                        });
                         if (it == null) {
                             if (children == null) {
-                                children = new ArrayList<>(dominant.children());
+                                children = new ArrayList<>(dominantChildren);
                             }
                             children.add(recessiveChild);
                         } else if (it.hasNext()) {
-                            XmlNode dominantChild = it.next();
+                            int idx = it.next();
+                            XmlNode dominantChild = dominantChildren.get(idx);
 
                             String dominantChildCombinationMode = getSelfCombinationMode(dominantChild);
                             if (SELF_COMBINATION_REMOVE.equals(dominantChildCombinationMode)) {
                                 if (children == null) {
-                                    children = new ArrayList<>(dominant.children());
+                                    children = new ArrayList<>(dominantChildren);
                                 }
                                 children.remove(dominantChild);
                             } else {
-                                int idx = dominant.children().indexOf(dominantChild);
                                 XmlNode merged = merge(dominantChild, recessiveChild, childMergeOverride);
                                 if (merged != dominantChild) {
                                     if (children == null) {
-                                        children = new ArrayList<>(dominant.children());
+                                        children = new ArrayList<>(dominantChildren);
                                     }
                                     children.set(idx, merged);
                                 }
@@ -344,7 +359,7 @@ public XmlNode doMerge(XmlNode dominant, XmlNode recessive, Boolean childMergeOv
                         }
                     } else {
                         if (children == null) {
-                            children = new ArrayList<>(dominant.children());
+                            children = new ArrayList<>(dominantChildren);
                         }
                         int idx = mergeChildren ? children.size() : recessiveChildIndex;
                         children.add(idx, recessiveChild);
@@ -378,6 +393,22 @@ public XmlNode doMerge(XmlNode dominant, XmlNode recessive, Boolean childMergeOv
         return dominant;
     }
 
+    /**
+     * Merging a node with itself returns the node unchanged, unless children get appended or removed.
+     */
+    private static boolean isSelfMergeNoop(XmlNode node) {
+        if (CHILDREN_COMBINATION_APPEND.equals(node.attribute(CHILDREN_COMBINATION_MODE_ATTRIBUTE))
+                || SELF_COMBINATION_REMOVE.equals(node.attribute(SELF_COMBINATION_MODE_ATTRIBUTE))) {
+            return false;
+        }
+        for (XmlNode child : node.children()) {
+            if (!isSelfMergeNoop(child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static boolean isEmpty(String str) {
         return str == null || str.isEmpty();
     }
@@ -392,32 +423,33 @@ private static String getChildCombinationMode(Map<String, String> attributes) {
         return !isEmpty(value) ? value : DEFAULT_CHILDREN_COMBINATION_MODE;
     }
 
-    @Nullable
-    private static XmlNode findNodeById(@Nonnull List<XmlNode> nodes, @Nonnull String id) {
-        return nodes.stream()
-                .filter(n -> id.equals(n.attribute(ID_COMBINATION_MODE_ATTRIBUTE)))
-                .findFirst()
-                .orElse(null);
+    // the last matching child wins when several dominant children share the same id
+    private static Map<String, XmlNode> indexById(@Nonnull List<XmlNode> nodes) {
+        Map<String, XmlNode> index = new HashMap<>();
+        for (XmlNode node : nodes) {
+            String id = node.attribute(ID_COMBINATION_MODE_ATTRIBUTE);
+            if (id != null) {
+                index.put(id, node);
+            }
+        }
+        return index;
     }
 
-    @Nullable
-    private static XmlNode findNodeByKeys(
-            @Nonnull List<XmlNode> nodes, @Nonnull XmlNode target, @Nonnull String[] keys) {
-        return nodes.stream()
-                .filter(n -> matchesKeys(n, target, keys))
-                .findFirst()
-                .orElse(null);
+    // the last matching child wins when several dominant children share the same keys
+    private static Map<List<String>, XmlNode> indexByKeys(@Nonnull List<XmlNode> nodes, @Nonnull String[] keys) {
+        Map<List<String>, XmlNode> index = new HashMap<>();
+        for (XmlNode node : nodes) {
+            index.put(keyValues(node, keys), node);
+        }
+        return index;
     }
 
-    private static boolean matchesKeys(@Nonnull XmlNode node1, @Nonnull XmlNode node2, @Nonnull String[] keys) {
-        for (String key : keys) {
-            String value1 = node1.attribute(key);
-            String value2 = node2.attribute(key);
-            if (!Objects.equals(value1, value2)) {
-                return false;
-            }
+    private static List<String> keyValues(@Nonnull XmlNode node, @Nonnull String[] keys) {
+        String[] values = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = node.attribute(keys[i]);
         }
-        return true;
+        return Arrays.asList(values);
     }
 
     static class IndentingXMLStreamWriter extends StreamWriterDelegate {
@@ -22,6 +22,7 @@
 import java.io.Serial;
 import java.io.Serializable;
 import java.io.StringWriter;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -41,6 +42,9 @@ public class XmlNodeImpl implements Serializable, XmlNode {
     @Serial
     private static final long serialVersionUID = 2567894443061173996L;
 
+    // children lists larger than this are indexed by name on the first lookup
+    private static final int CHILD_INDEX_THRESHOLD = 16;
+
     @Nonnull
     protected final String prefix;
 
@@ -60,6 +64,8 @@ public class XmlNodeImpl implements Serializable, XmlNode {
 
     protected final Object location;
 
+    private transient volatile Map<String, XmlNode> childIndex;
+
     public XmlNodeImpl(String name) {
         this(name, null, null, null, null);
     }
@@ -192,6 +198,18 @@ public String attribute(@Nonnull String name) {
 
     @Deprecated(since = "4.0.0", forRemoval = true)
     public XmlNode getChild(String name) {
+        if (name != null && children.size() > CHILD_INDEX_THRESHOLD) {
+            Map<String, XmlNode> index = childIndex;
+            if (index == null) {
+                // the last child wins, as with the backward scan below
+                index = new HashMap<>();
+                for (XmlNode child : children) {
+                    index.put(child.getName(), child);
+                }
+                childIndex = index;
+            }
+            return index.get(name);
+        }
         if (name != null) {
             ListIterator<XmlNode> it = children.listIterator(children.size());
             while (it.hasPrevious()) {
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.api.xml.XmlNode;
+
+/**
+ * A pool of canonical {@link XmlNode} instances.
+ * <p>
+ * Interning a node returns a structurally identical node whose children and attributes are themselves
+ * interned, so that identical configuration trees, such as the mojo configurations of the projects of
+ * a large reactor, share their memory. Besides the name, value, attributes and children compared by
+ * {@link XmlNode#equals(Object)}, nodes are only shared if their prefix, namespace and input location
+ * are the same, input locations being compared by identity, so that problem reporting is not affected.
+ * <p>
+ * The pool keeps strong references to the interned nodes and is meant to be used for the duration
+ * of a session.
+ */
+public class XmlNodeInterner {
+
+    private final Map<Key, XmlNode> nodes = new ConcurrentHashMap<>();
+    private final Map<Map<String, String>, Map<String, String>> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical instance for the given node.
+     *
+     * @param node the node to intern, may be {@code null}
+     * @return the canonical node, or {@code null} if the given node is {@code null}
+     */
+    public XmlNode intern(XmlNode node) {
+        if (node == null) {
+            return null;
+        }
+        List<XmlNode> children = node.children();
+        List<XmlNode> internedChildren = children;
+        for (int i = 0; i < children.size(); i++) {
+            XmlNode child = children.get(i);
+            XmlNode internedChild = intern(child);
+            if (internedChild != child) {
+                if (internedChildren == children) {
+                    internedChildren = new ArrayList<>(children);
+                }
+                internedChildren.set(i, internedChild);
+            }
+        }
+        Map<String, String> attrs = node.attributes();
+        Map<String, String> internedAttrs = attrs.isEmpty() ? attrs : attributes.putIfAbsent(attrs, attrs);
+        if (internedAttrs == null) {
+            internedAttrs = attrs;
+        }
+        XmlNode candidate = internedChildren == children && internedAttrs == attrs
+                ? node
+                : XmlNode.newBuilder()
+                        .prefix(node.prefix())
+                        .namespaceUri(node.namespaceUri())
+                        .name(node.name())
+                        .value(node.value())
+                        .attributes(internedAttrs)
+                        .children(internedChildren)
+                        .inputLocation(node.inputLocation())
+                        .build();
+        XmlNode interned = nodes.putIfAbsent(new Key(candidate), candidate);
+        return interned != null ? interned : candidate;
+    }
+
+    /**
+     * Returns the number of distinct nodes in this pool.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Key of an interned node. The children are already interned when the key is created,
+     * so they can be compared by identity instead of comparing the whole subtrees.
+     */
+    private static final class Key {
+        private final XmlNode node;
+        private final int hash;
+
+        Key(XmlNode node) {
+            this.node = node;
+            int h = Objects.hash(node.prefix(), node.namespaceUri(), node.name(), node.value(), node.attributes());
+            for (XmlNode child : node.children()) {
+                h = 31 * h + System.identityHashCode(child);
+            }
+            this.hash = 31 * h + System.identityHashCode(node.inputLocation());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key that)) {
+                return false;
+            }
+            XmlNode other = that.node;
+            if (hash != that.hash
+                    || node.inputLocation() != other.inputLocation()
+                    || !node.name().equals(other.name())
+                    || !node.prefix().equals(other.prefix())
+                    || !node.namespaceUri().equals(other.namespaceUri())
+                    || !Objects.equals(node.value(), other.value())
+                    || !node.attributes().equals(other.attributes())) {
+                return false;
+            }
+            List<XmlNode> children = node.children();
+            List<XmlNode> otherChildren = other.children();
+            if (children.size() != otherChildren.size()) {
+                return false;
+            }
+            for (int i = 0; i < children.size(); i++) {
+                if (children.get(i) != otherChildren.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -28,6 +28,9 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.api.xml.XmlNode;
 import org.apache.maven.api.xml.XmlService;
@@ -634,6 +637,64 @@ void testShouldRemoveDoNotRemoveTagWhenSwappedInputDOMs() throws Exception {
         assertEquals(recessiveConfig.toString(), result.toString());
     }
 
+    @Test
+    void testChildLookupAndMergeWithManyChildren() throws Exception {
+        StringBuilder dominant = new StringBuilder("<rules>");
+        StringBuilder recessive = new StringBuilder("<rules>");
+        for (int i = 0; i < 100; i++) {
+            dominant.append("<rule combine.id=\"r").append(i).append("\"><level>high</level></rule>");
+            recessive
+                    .append("<rule combine.id=\"r")
+                    .append(i)
+                    .append("\"><message>m")
+                    .append(i);
+            recessive.append("</message></rule>");
+            dominant.append("<item")
+                    .append(i)
+                    .append(">d")
+                    .append(i)
+                    .append("</item")
+                    .append(i)
+                    .append(">");
+        }
+        dominant.append("<item7>last</item7></rules>");
+        recessive.append("</rules>");
+
+        XmlNode dominantDom = toXmlNode(dominant.toString());
+        assertEquals("last", dominantDom.child("item7").value());
+        assertEquals("d42", dominantDom.child("item42").value());
+        assertNull(dominantDom.child("missing"));
+
+        XmlNode merged = XmlService.merge(dominantDom, toXmlNode(recessive.toString()));
+        List<XmlNode> rules =
+                merged.children().stream().filter(n -> n.name().equals("rule")).toList();
+        assertEquals(100, rules.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("r" + i, rules.get(i).attribute("combine.id"));
+            assertEquals("high", rules.get(i).child("level").value());
+            assertEquals("m" + i, rules.get(i).child("message").value());
+        }
+    }
+
+    @Test
+    void testReadConcurrently() throws Exception {
+        String xml = "<config><items><item>one</item><item>two</item></items><value>three</value></config>";
+        XmlNode expected = toXmlNode(xml);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<XmlNode>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> toXmlNode(xml)));
+            }
+            for (Future<XmlNode> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void testMergeCombineChildrenAppendOnRecessive() throws XMLStreamException, IOException {
         String dominant = "<relocations>\n" + "  <relocation>\n"
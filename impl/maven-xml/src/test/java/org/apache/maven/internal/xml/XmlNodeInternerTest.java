@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.xml;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.api.xml.XmlNode;
+import org.apache.maven.api.xml.XmlService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class XmlNodeInternerTest {
+
+    private static final String CONFIGURATION = "<configuration>"
+            + "<source>17</source>"
+            + "<compilerArgs combine.children=\"append\"><arg>-Xlint</arg><arg>-parameters</arg></compilerArgs>"
+            + "</configuration>";
+
+    @Test
+    void testIdenticalTreesAreShared() throws Exception {
+        XmlNodeInterner interner = new XmlNodeInterner();
+        XmlNode first = XmlService.read(new StringReader(CONFIGURATION));
+        XmlNode second = XmlService.read(new StringReader(CONFIGURATION));
+        assertNotSame(first, second);
+
+        XmlNode internedFirst = interner.intern(first);
+        XmlNode internedSecond = interner.intern(second);
+        assertEquals(first, internedFirst);
+        assertSame(internedFirst, internedSecond);
+        assertSame(
+                internedFirst.child("compilerArgs").attributes(),
+                internedSecond.child("compilerArgs").attributes());
+    }
+
+    @Test
+    void testSubtreesAreShared() {
+        XmlNodeInterner interner = new XmlNodeInterner();
+        XmlNode source = XmlNode.newInstance("source", "17");
+        XmlNode first = interner.intern(XmlNode.newInstance("configuration", List.of(source)));
+        XmlNode second = interner.intern(XmlNode.newBuilder()
+                .name("configuration")
+                .attributes(Map.of("combine.self", "override"))
+                .children(List.of(XmlNode.newInstance("source", "17")))
+                .build());
+
+        assertNotSame(first, second);
+        assertSame(first.child("source"), second.child("source"));
+    }
+
+    @Test
+    void testLocationsAreNotMixed() {
+        XmlNodeInterner interner = new XmlNodeInterner();
+        XmlNode first = interner.intern(XmlNode.newBuilder()
+                .name("source")
+                .value("17")
+                .inputLocation("first")
+                .build());
+        XmlNode second = interner.intern(XmlNode.newBuilder()
+                .name("source")
+                .value("17")
+                .inputLocation("second")
+                .build());
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals("second", second.inputLocation());
+    }
+
+    @Test
+    void testSelfMerge() throws Exception {
+        XmlNode node = new XmlNodeInterner().intern(XmlService.read(new StringReader(CONFIGURATION)));
+        XmlNode source = node.child("source");
+        assertSame(source, XmlService.merge(source, source));
+
+        // appended children are duplicated, so merging with itself is not a no-op
+        XmlNode merged = XmlService.merge(node, node);
+        assertEquals(4, merged.child("compilerArgs").children().size());
+    }
+}